@@ -0,0 +1,41 @@
+package Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// java -jar target/benchmarks.jar [include-regex] [result.json]
+// Results are written as JMH JSON (one file per commit, e.g. jmh-results/<sha>.json) and can be compared
+// with ResultDiff. The GC profiler adds gc.alloc.rate.norm, the client-side allocation per operation.
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length > 0 ? args[0] : PageObjectBenchmark.class.getSimpleName();
+        Path result = Path.of(args.length > 1 ? args[1] : "jmh-results/latest.json");
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString());
+        for (String property : new String[] {"baseUrl", "chromedriver.path", "driver.offline", "driver.cacheDir"}) {
+            String value = System.getProperty(property);
+            if (value != null) {
+                options.jvmArgsAppend("-D" + property + "=" + value);
+            }
+        }
+
+        new Runner(options.build()).run();
+        System.out.println("Results written to " + result.toAbsolutePath());
+    }
+}
@@ -0,0 +1,72 @@
+package Benchmarks;
+
+import Base.DriverFactory;
+import Base.LaunchProfile;
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// cold: a freshly launched browser for every invocation (launch time itself is not measured)
+// warm: one headed browser reused for the whole trial
+// headless: one lean (headless, eager, trimmed) browser reused for the whole trial
+@State(Scope.Thread)
+public class BrowserState {
+
+    @Param({"cold", "warm", "headless"})
+    public String driverProfile;
+
+    WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void startTrial() {
+        // Benchmarks run against the embedded stand-in unless pointed elsewhere, and without the
+        // command instrumentation so the decorator's overhead is not part of the numbers
+        if (System.getProperty("baseUrl") == null) {
+            System.setProperty("baseUrl", "local");
+        }
+        if (System.getProperty("instrument.commands") == null) {
+            System.setProperty("instrument.commands", "false");
+        }
+        if (!isCold()) {
+            driver = DriverFactory.create(profile());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void startInvocation() {
+        if (isCold()) {
+            driver = DriverFactory.create(profile());
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void finishInvocation() {
+        if (isCold()) {
+            quit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void finishTrial() {
+        quit();
+    }
+
+    private boolean isCold() {
+        return driverProfile.equals("cold");
+    }
+
+    private LaunchProfile profile() {
+        return driverProfile.equals("headless") ? LaunchProfile.LEAN : LaunchProfile.DEFAULT;
+    }
+
+    private void quit() {
+        if (driver != null) {
+            driver.quit();
+            driver = null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package Benchmarks;
+
+import Base.Config;
+import Pages.CheckoutPage;
+import Pages.InventoryPage;
+import Pages.LoginPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Each operation is measured from an arranged page; the arrange step runs in an invocation-level
+// setup so only the page-object call itself is timed
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class PageObjectBenchmark {
+
+    private static final String USER = "standard_user";
+    private static final String PASSWORD = "secret_sauce";
+
+    @State(Scope.Thread)
+    public static class OnLoginPage {
+
+        @Setup(Level.Invocation)
+        public void arrange(BrowserState browser) {
+            browser.driver.manage().deleteAllCookies();
+            browser.driver.get(Config.baseUrl());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class OnInventoryPage {
+
+        @Setup(Level.Invocation)
+        public void arrange(BrowserState browser) {
+            if (!browser.driver.getCurrentUrl().endsWith("/inventory.html")) {
+                browser.driver.get(Config.baseUrl());
+                new LoginPage(browser.driver).loginFast(USER, PASSWORD);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class OnCheckoutInfoPage {
+
+        @Setup(Level.Invocation)
+        public void arrange(BrowserState browser) {
+            browser.driver.get(Config.baseUrl());
+            new LoginPage(browser.driver).loginFast(USER, PASSWORD);
+            browser.driver.get(Config.baseUrl() + "checkout-step-one.html");
+        }
+    }
+
+    @Benchmark
+    public void login(BrowserState browser, OnLoginPage page) {
+        new LoginPage(browser.driver).login(USER, PASSWORD);
+    }
+
+    @Benchmark
+    public List<String> getAllItemTitles(BrowserState browser, OnInventoryPage page) {
+        return new InventoryPage(browser.driver).getAllItemTitles();
+    }
+
+    @Benchmark
+    public void fillCheckoutInfo(BrowserState browser, OnCheckoutInfoPage page) {
+        new CheckoutPage(browser.driver).fillCheckoutInfo("Jane", "Doe", "11000");
+    }
+}
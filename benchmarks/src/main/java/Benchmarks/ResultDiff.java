@@ -0,0 +1,77 @@
+package Benchmarks;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// java -cp target/benchmarks.jar Benchmarks.ResultDiff baseline.json current.json
+// Prints the primary score and allocation per op of every benchmark/params/mode present in both files
+public class ResultDiff {
+
+    private static final Type RESULTS = new TypeToken<List<Map<String, Object>>>() {
+    }.getType();
+
+    private static final String ALLOCATION = "·gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ResultDiff <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        Map<String, Map<String, Object>> baseline = load(Path.of(args[0]));
+        Map<String, Map<String, Object>> current = load(Path.of(args[1]));
+
+        System.out.printf("%-90s %14s %14s %9s %14s%n", "Benchmark", "Baseline", "Current", "Delta", "Alloc B/op");
+        for (Map.Entry<String, Map<String, Object>> entry : new TreeMap<>(current).entrySet()) {
+            Map<String, Object> before = baseline.get(entry.getKey());
+            double now = score(entry.getValue(), null);
+            String unit = unit(entry.getValue());
+            if (before == null) {
+                System.out.printf("%-90s %14s %14s %9s %14s%n", entry.getKey(), "-", format(now, unit), "new",
+                        format(score(entry.getValue(), ALLOCATION), ""));
+                continue;
+            }
+            double then = score(before, null);
+            double delta = then == 0 ? 0 : (now - then) / then * 100;
+            System.out.printf("%-90s %14s %14s %+8.1f%% %14s%n", entry.getKey(), format(then, unit), format(now, unit),
+                    delta, format(score(entry.getValue(), ALLOCATION), ""));
+        }
+    }
+
+    private static Map<String, Map<String, Object>> load(Path file) throws IOException {
+        List<Map<String, Object>> results = new Json().toType(Files.readString(file), RESULTS);
+        Map<String, Map<String, Object>> byKey = new LinkedHashMap<>();
+        for (Map<String, Object> result : results) {
+            byKey.put(result.get("benchmark") + " " + result.get("params") + " [" + result.get("mode") + "]", result);
+        }
+        return byKey;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static double score(Map<String, Object> result, String secondary) {
+        Map<String, Object> metric = secondary == null
+                ? (Map<String, Object>) result.get("primaryMetric")
+                : ((Map<String, Map<String, Object>>) result.getOrDefault("secondaryMetrics", Map.of())).get(secondary);
+        if (metric == null || !(metric.get("score") instanceof Number)) {
+            return Double.NaN;
+        }
+        return ((Number) metric.get("score")).doubleValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String unit(Map<String, Object> result) {
+        return String.valueOf(((Map<String, Object>) result.get("primaryMetric")).get("scoreUnit"));
+    }
+
+    private static String format(double value, String unit) {
+        return Double.isNaN(value) ? "-" : String.format("%.3f %s", value, unit).trim();
+    }
+}
@@ -1,17 +1,123 @@
 package org.example;
 
-//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-// click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlPackage;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Runs the suite without testng.xml. The test classes live in the test sources, so start it with the
+// test classpath:
+//   mvn -Prunner test-compile exec:java -Dexec.args="--class InventoryTest,CartTest --persona standard_user --threads 200 --browsers 8"
 public class Main {
+
+    private static final String USAGE = """
+            Options:
+              --class <names>       Test classes to run, comma separated (simple names resolve to package Tests)
+              --group <names>       Only run test methods in these groups
+              --persona <names>     Only run data-provider rows for these personas
+              --parallel <mode>     methods (default), classes or none
+              --threads <n>         Tests in flight at once (default 100)
+              --browsers <n>        Browsers leased at once per launch profile (default 8)
+              --platform-threads    Use TestNG's platform thread pool instead of virtual threads
+              --shard <i/n>         Run only the i-th of n duration-balanced shards
+            System properties (-DbaseUrl=local, -Dbrowser.profile=lean, ...) work as with mvn test.""";
+
     public static void main(String[] args) {
-        //TIP Press <shortcut actionId="ShowIntentionActions"/> with your caret at the highlighted text
-        // to see how IntelliJ IDEA suggests fixing it.
-        System.out.printf("Hello and welcome!");
+        List<String> classes = new ArrayList<>();
+        String groups = null;
+        Set<String> personas = new LinkedHashSet<>();
+        String parallel = "methods";
+        int threads = 100;
+        int browsers = 8;
+        boolean virtualThreads = true;
+        String shard = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--class" -> classes.addAll(split(value(args, ++i)));
+                case "--group" -> groups = value(args, ++i);
+                case "--persona" -> personas.addAll(split(value(args, ++i)));
+                case "--parallel" -> parallel = value(args, ++i);
+                case "--threads" -> threads = Integer.parseInt(value(args, ++i));
+                case "--browsers" -> browsers = Integer.parseInt(value(args, ++i));
+                case "--platform-threads" -> virtualThreads = false;
+                case "--shard" -> shard = value(args, ++i);
+                case "--help" -> {
+                    System.out.println(USAGE);
+                    return;
+                }
+                default -> throw new IllegalArgumentException("Unknown option " + args[i] + System.lineSeparator() + USAGE);
+            }
+        }
+        for (String persona : personas) {
+            if (!PersonaFilter.PERSONAS.contains(persona)) {
+                throw new IllegalArgumentException("Unknown persona " + persona + ", expected one of " + PersonaFilter.PERSONAS);
+            }
+        }
+
+        // Read by BaseTest when it creates its driver pools, and by the shard listener
+        System.setProperty("pool.maxBrowsers", String.valueOf(browsers));
+        if (shard != null) {
+            System.setProperty("shard", shard);
+        }
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("SauceDemo Test Suite");
+        suite.setParallel(XmlSuite.ParallelMode.getValidParallel(parallel));
+        suite.setThreadCount(threads);
+        suite.addListener("Listeners.ParallelSuiteListener");
+        suite.addListener("Listeners.DurationRecorder");
+        suite.addListener("Sharding.ShardListener");
+        suite.addListener("Listeners.LongestFirstInterceptor");
+        suite.addListener("Listeners.ReadOnlyScheduler");
 
-        for (int i = 1; i <= 5; i++) {
-            //TIP Press <shortcut actionId="Debug"/> to start debugging your code. We have set one <icon src="AllIcons.Debugger.Db_set_breakpoint"/> breakpoint
-            // for you, but you can always add more by pressing <shortcut actionId="ToggleLineBreakpoint"/>.
-            System.out.println("i = " + i);
+        XmlTest test = new XmlTest(suite);
+        test.setName(classes.isEmpty() ? "Full Functional Test" : "Selected classes");
+        if (classes.isEmpty()) {
+            test.setXmlPackages(List.of(new XmlPackage("Tests")));
+        } else {
+            test.setXmlClasses(classes.stream()
+                    .map(name -> new XmlClass(name.contains(".") ? name : "Tests." + name))
+                    .toList());
         }
+
+        TestNG testng = new TestNG();
+        testng.setXmlSuites(List.of(suite));
+        testng.setOutputDirectory("target/testng-runner");
+        if (groups != null) {
+            testng.setGroups(groups);
+        }
+        if (!personas.isEmpty()) {
+            testng.addListener(new PersonaFilter(personas));
+        }
+        if (virtualThreads) {
+            testng.setExecutorServiceFactory(new VirtualThreadExecutorFactory());
+        }
+
+        System.out.printf("Running %s, parallel=%s, %d tests in flight on %s threads, %d browsers per profile%s%n",
+                classes.isEmpty() ? "package Tests" : classes, parallel, threads,
+                virtualThreads ? "virtual" : "platform", browsers,
+                personas.isEmpty() ? "" : ", personas " + personas);
+        testng.run();
+        // The embedded stand-in keeps a non-daemon dispatcher thread alive, so exit explicitly
+        System.exit(testng.getStatus());
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1] + System.lineSeparator() + USAGE);
+        }
+        return args[index];
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
     }
-}
\ No newline at end of file
+}
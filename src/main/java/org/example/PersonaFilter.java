@@ -0,0 +1,40 @@
+package org.example;
+
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+// Drops data-provider rows that name a persona outside the selection; rows without a persona are kept.
+// Tests that hard-code their persona are not data-driven and therefore always run.
+public class PersonaFilter implements IDataProviderInterceptor {
+
+    static final Set<String> PERSONAS = Set.of("standard_user", "locked_out_user", "problem_user",
+            "performance_glitch_user", "error_user", "visual_user");
+
+    private final Set<String> selected;
+
+    public PersonaFilter(Set<String> selected) {
+        this.selected = selected;
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> original, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext iTestContext) {
+        Iterable<Object[]> rows = () -> original;
+        return StreamSupport.stream(rows.spliterator(), false)
+                .filter(this::accepts)
+                .iterator();
+    }
+
+    private boolean accepts(Object[] row) {
+        return Arrays.stream(row)
+                .filter(value -> value instanceof String && PERSONAS.contains(value))
+                .allMatch(selected::contains);
+    }
+}
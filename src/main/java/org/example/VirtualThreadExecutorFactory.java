@@ -0,0 +1,71 @@
+package org.example;
+
+import org.testng.IExecutorServiceFactory;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+// Runs every TestNG worker on its own virtual thread. The suite's thread-count becomes the cap on tests in
+// flight rather than a pool of platform threads, so a test blocked on a browser response costs no carrier.
+public class VirtualThreadExecutorFactory implements IExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        return new BoundedVirtualThreadExecutor(Math.max(1, maximumPoolSize));
+    }
+
+    static class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate =
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("testng-virtual-", 0).factory());
+        private final Semaphore inFlight;
+
+        BoundedVirtualThreadExecutor(int maxInFlight) {
+            this.inFlight = new Semaphore(maxInFlight, true);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            delegate.execute(() -> {
+                inFlight.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
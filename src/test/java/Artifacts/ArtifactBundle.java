@@ -0,0 +1,25 @@
+package Artifacts;
+
+import org.openqa.selenium.logging.LogEntry;
+
+import java.util.List;
+
+// What was grabbed from the browser, still in the form the driver returned it; decoding, formatting and
+// compression happen on the writer thread. Any part can be null when the browser could not provide it.
+public record ArtifactBundle(String name, String screenshotBase64, String dom, List<LogEntry> console) {
+
+    // Rough heap footprint, used to bound the writer's queue
+    public long sizeInBytes() {
+        long chars = length(screenshotBase64) + length(dom);
+        if (console != null) {
+            for (LogEntry entry : console) {
+                chars += length(entry.getMessage()) + 32;
+            }
+        }
+        return chars * 2;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
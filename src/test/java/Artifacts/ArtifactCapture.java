@@ -0,0 +1,94 @@
+package Artifacts;
+
+import Base.Config;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.testng.ITestResult;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Grabs screenshot, DOM and console log of a test's browser before it goes back to the pool. Only the three
+// driver calls run on the test thread; everything else is left to the ArtifactWriter.
+public final class ArtifactCapture {
+
+    private static volatile ArtifactWriter writer;
+
+    private ArtifactCapture() {
+    }
+
+    public static void afterTest(WebDriver driver, ITestResult result) {
+        if (!shouldCapture(result)) {
+            return;
+        }
+        String screenshot = null;
+        String dom = null;
+        List<LogEntry> console = null;
+        try {
+            screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (RuntimeException e) {
+            System.out.println("No screenshot for " + name(result) + ": " + e.getClass().getSimpleName());
+        }
+        try {
+            dom = (String) ((JavascriptExecutor) driver).executeScript("return document.documentElement.outerHTML;");
+        } catch (RuntimeException e) {
+            System.out.println("No DOM for " + name(result) + ": " + e.getClass().getSimpleName());
+        }
+        try {
+            console = driver.manage().logs().get(LogType.BROWSER).getAll();
+        } catch (RuntimeException e) {
+            // Browsers started without goog:loggingPrefs have no log to read
+        }
+        writer().offer(new ArtifactBundle(name(result), screenshot, dom, console));
+    }
+
+    // Flushes pending artifacts and prints the writer's stats; a no-op when nothing was ever captured
+    public static void finishSuite() {
+        ArtifactWriter current = writer;
+        if (current != null) {
+            current.awaitIdle(Duration.ofSeconds(30));
+            System.out.println(current.stats());
+        }
+    }
+
+    static boolean shouldCapture(ITestResult result) {
+        String mode = Config.artifactsMode().toLowerCase(Locale.ROOT);
+        if (mode.equals("off")) {
+            return false;
+        }
+        if (mode.equals("all") || result.getStatus() == ITestResult.FAILURE) {
+            return true;
+        }
+        // Sampling is keyed on the test so the same tests are sampled on every run
+        double rate = Config.artifactsSampleRate();
+        return rate > 0 && Math.floorMod(name(result).hashCode(), 10_000) < rate * 10_000;
+    }
+
+    private static ArtifactWriter writer() {
+        ArtifactWriter current = writer;
+        if (current == null) {
+            synchronized (ArtifactCapture.class) {
+                current = writer;
+                if (current == null) {
+                    current = new ArtifactWriter(Config.artifactsDir(), Config.artifactsQueueBytes());
+                    writer = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static String name(ITestResult result) {
+        String status = result.getStatus() == ITestResult.FAILURE ? "FAIL" : "PASS";
+        String parameters = result.getParameters().length == 0 ? "" : "_" + Arrays.deepToString(result.getParameters());
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName()
+                + parameters + "_" + status + "_" + result.getEndMillis();
+        return name.replaceAll("[^A-Za-z0-9._-]+", "_");
+    }
+}
@@ -0,0 +1,145 @@
+package Artifacts;
+
+import org.openqa.selenium.logging.LogEntry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+// Single background thread that decodes, compresses and writes artifact bundles. offer() never blocks:
+// when the bundles waiting in memory would exceed maxQueuedBytes the new bundle is dropped and counted.
+public class ArtifactWriter {
+
+    private static final int GZIP_BUFFER = 64 * 1024;
+
+    private final Path root;
+    private final long maxQueuedBytes;
+    private final BlockingQueue<ArtifactBundle> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong bytesOnDisk = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+
+    public ArtifactWriter(Path root, long maxQueuedBytes) {
+        this.root = root;
+        this.maxQueuedBytes = maxQueuedBytes;
+        Thread thread = new Thread(this::drainForever, "artifact-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean offer(ArtifactBundle bundle) {
+        long size = bundle.sizeInBytes();
+        long after = queuedBytes.addAndGet(size);
+        // A single bundle larger than the budget is still accepted when nothing else is waiting
+        if (after > maxQueuedBytes && after != size) {
+            queuedBytes.addAndGet(-size);
+            dropped.incrementAndGet();
+            return false;
+        }
+        queue.add(bundle);
+        return true;
+    }
+
+    // Waits for queued bundles to reach the disk, e.g. at the end of the suite
+    public boolean awaitIdle(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (queuedBytes.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+        }
+        return true;
+    }
+
+    public String stats() {
+        long count = written.get();
+        return String.format("Artifacts: %d bundles written (%.1f KB on disk, avg write %.1f ms), %d dropped (queue full), %d failed -> %s",
+                count, bytesOnDisk.get() / 1024.0, count == 0 ? 0 : writeNanos.get() / 1_000_000.0 / count,
+                dropped.get(), failed.get(), root.toAbsolutePath());
+    }
+
+    private void drainForever() {
+        while (true) {
+            ArtifactBundle bundle;
+            try {
+                bundle = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                write(bundle);
+                written.incrementAndGet();
+                writeNanos.addAndGet(System.nanoTime() - start);
+            } catch (IOException | RuntimeException e) {
+                failed.incrementAndGet();
+                System.out.println("Could not write artifacts for " + bundle.name() + ": " + e);
+            } finally {
+                queuedBytes.addAndGet(-bundle.sizeInBytes());
+            }
+        }
+    }
+
+    private void write(ArtifactBundle bundle) throws IOException {
+        Path dir = Files.createDirectories(root.resolve(bundle.name()));
+        if (bundle.screenshotBase64() != null) {
+            // PNG is already compressed; it is only decoded from the wire format
+            writeRaw(dir.resolve("screenshot.png"), Base64.getMimeDecoder().decode(bundle.screenshotBase64()));
+        }
+        if (bundle.dom() != null) {
+            writeGzip(dir.resolve("dom.html.gz"), bundle.dom());
+        }
+        if (bundle.console() != null) {
+            StringBuilder log = new StringBuilder();
+            for (LogEntry entry : bundle.console()) {
+                log.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                        .append(entry.getLevel()).append(' ')
+                        .append(entry.getMessage()).append('\n');
+            }
+            writeGzip(dir.resolve("console.log.gz"), log.toString());
+        }
+    }
+
+    private void writeRaw(Path file, byte[] bytes) throws IOException {
+        try (FileChannel channel = open(file)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            bytesOnDisk.addAndGet(channel.size());
+        }
+    }
+
+    private void writeGzip(Path file, String text) throws IOException {
+        try (FileChannel channel = open(file)) {
+            try (OutputStream out = new GZIPOutputStream(Channels.newOutputStream(channel), GZIP_BUFFER)) {
+                out.write(text.getBytes(StandardCharsets.UTF_8));
+            }
+            bytesOnDisk.addAndGet(Files.size(file));
+        }
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+}
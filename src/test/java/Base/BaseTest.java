@@ -1,26 +1,140 @@
 package Base;
 
+import Artifacts.ArtifactCapture;
+import Network.NetworkPolicy;
+import Network.TrafficControl;
+import Pages.ElementCache;
+import Pages.SnapshotCache;
+import Perf.CommandStats;
+import Session.SharedSessions;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class BaseTest {
 
-    protected WebDriver driver;
+    private static final Map<LaunchProfile, DriverPool> pools = new ConcurrentHashMap<>();
+
+    // How long a test waits for a free browser in a bounded pool before a parked session is handed back
+    private static final Duration PARKED_RELEASE_WAIT = Duration.ofMillis(100);
+
+    // Shared by every thread running this instance; calls are routed to the current thread's browser
+    protected final WebDriver driver = DriverManager.threadBound();
 
     @BeforeMethod
-    public void setup() {
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.get("https://www.saucedemo.com/");
-        driver.manage().window().maximize();
+    public void setup(Method method, Object[] parameters) {
+        CommandStats.startTest(getClass().getSimpleName() + "." + method.getName());
+        SharedSessions.forget();
+
+        // Pooled and freshly launched browsers are already sitting on the base URL, a shared read-only
+        // session is logged in and on its page
+        LaunchProfile profile = launchProfile();
+        SharedSessions.Key shared = sharedSessionKey(method, parameters, profile);
+        WebDriver session = shared == null ? null : SharedSessions.take(shared);
+        if (shared == null) {
+            SharedSessions.endReadOnlyPhase();
+        }
+        if (session == null) {
+            session = Config.pooled() ? lease(profile) : DriverFactory.create(profile);
+        }
+        DriverManager.bind(session);
+        TrafficControl.start(session, networkPolicy(method));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        String commandSummary = CommandStats.finishTest();
+        if (commandSummary != null && Config.instrumentCommands()) {
+            System.out.println(commandSummary);
+        }
+
+        TrafficControl.stop();
+        WebDriver session = DriverManager.unbind();
+        if (session == null) {
+            return;
+        }
+        // Only the browser round trips happen here; compression and disk writes are left to a background thread
+        ArtifactCapture.afterTest(session, result);
+        LaunchProfile profile = launchProfile();
+        if (!SharedSessions.park(session, result.isSuccess(), parked -> release(profile, parked, false))) {
+            release(profile, session, result.getStatus() == ITestResult.FAILURE);
+        }
+    }
+
+    // Every browser of a bounded pool may be parked by read-only tests of other personas or pages. Those are
+    // handed back one at a time while no browser frees up, instead of blocking on them forever.
+    private static WebDriver lease(LaunchProfile profile) {
+        DriverPool pool = poolFor(profile);
+        if (Config.maxPooledBrowsers() <= 0) {
+            return pool.lease();
+        }
+        while (true) {
+            WebDriver session = pool.tryLease(PARKED_RELEASE_WAIT);
+            if (session != null) {
+                return session;
+            }
+            SharedSessions.releaseOne();
+        }
+    }
+
+    private static void release(LaunchProfile profile, WebDriver session, boolean failed) {
+        if (Config.pooled()) {
+            poolFor(profile).release(session, failed);
+        } else {
+            session.quit();
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        SharedSessions.drain();
+        pools.values().forEach(pool -> {
+            pool.shutdown();
+            System.out.println(pool.stats());
+        });
+        System.out.println(DriverFactory.stats());
+        System.out.println(SnapshotCache.stats());
+        System.out.println(ElementCache.stats());
+        System.out.println(TrafficControl.stats());
+        System.out.println(SharedSessions.stats());
+        ArtifactCapture.finishSuite();
+        if (Config.instrumentCommands()) {
+            System.out.println(CommandStats.report());
+        }
+    }
+
+    // @BrowserProfile on the test class wins over the run-wide -Dbrowser.profile
+    protected LaunchProfile launchProfile() {
+        BrowserProfile annotation = getClass().getAnnotation(BrowserProfile.class);
+        return annotation != null ? LaunchProfile.parse(annotation.value()) : Config.launchProfile();
     }
 
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+    // A @NetworkPolicy on the test method replaces the one on its class
+    protected NetworkPolicy networkPolicy(Method method) {
+        NetworkPolicy annotation = method.getAnnotation(NetworkPolicy.class);
+        return annotation != null ? annotation : getClass().getAnnotation(NetworkPolicy.class);
+    }
+
+    // Read-only tests of the same persona, page and launch profile take turns on one parked, logged-in browser
+    protected SharedSessions.Key sharedSessionKey(Method method, Object[] parameters, LaunchProfile profile) {
+        ReadOnly readOnly = method.getAnnotation(ReadOnly.class);
+        if (readOnly == null || !Config.shareReadOnlySessions()) {
+            return null;
         }
+        String persona = readOnly.persona().isEmpty()
+                ? Arrays.stream(parameters).filter(String.class::isInstance).map(String.class::cast).findFirst().orElse(null)
+                : readOnly.persona();
+        return persona == null ? null : new SharedSessions.Key(persona, readOnly.page(), profile);
+    }
+
+    private static DriverPool poolFor(LaunchProfile profile) {
+        return pools.computeIfAbsent(profile, p -> new DriverPool(p, Config.maxLeasesPerBrowser(), Config.maxPooledBrowsers(),
+                Config.userContexts()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package Base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Pins a test class to a launch profile regardless of -Dbrowser.profile, e.g. @BrowserProfile("lean")
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface BrowserProfile {
+    String value();
+}
@@ -0,0 +1,140 @@
+package Base;
+
+import StandIn.SauceDemoServer;
+import org.openqa.selenium.Dimension;
+
+import java.nio.file.Path;
+
+public final class Config {
+
+    private Config() {
+    }
+
+    // "local" serves the suite from the embedded SauceDemo stand-in instead of the public site
+    public static String baseUrl() {
+        String baseUrl = System.getProperty("baseUrl", "https://www.saucedemo.com/");
+        if (baseUrl.equalsIgnoreCase("local")) {
+            return SauceDemoServer.shared().baseUrl();
+        }
+        return baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    }
+
+    public static boolean localStandIn() {
+        return System.getProperty("baseUrl", "").equalsIgnoreCase("local");
+    }
+
+    // "pooled" leases warm browsers from DriverPool, "contexts" leases them too but gives every test a fresh
+    // BiDi user context instead of clearing state, "fresh" launches and quits one per test method
+    public static String driverMode() {
+        return System.getProperty("driver.mode", "pooled");
+    }
+
+    public static boolean pooled() {
+        return driverMode().equalsIgnoreCase("pooled") || userContexts();
+    }
+
+    public static boolean userContexts() {
+        return driverMode().equalsIgnoreCase("contexts");
+    }
+
+    public static int maxLeasesPerBrowser() {
+        return Integer.getInteger("pool.maxLeases", 25);
+    }
+
+    // Upper bound of browsers leased at once per pool; 0 launches one per concurrently running test
+    public static int maxPooledBrowsers() {
+        return Integer.getInteger("pool.maxBrowsers", 0);
+    }
+
+    // Absolute path to a chromedriver binary; skips WebDriverManager entirely
+    public static String chromedriverPath() {
+        return System.getProperty("chromedriver.path");
+    }
+
+    // Offline mode never touches the network: the newest chromedriver in driver.cacheDir is used
+    public static boolean offlineDrivers() {
+        return Boolean.getBoolean("driver.offline");
+    }
+
+    public static String driverCacheDir() {
+        return System.getProperty("driver.cacheDir",
+                Path.of(System.getProperty("user.home"), ".cache", "selenium").toString());
+    }
+
+    public static LaunchProfile launchProfile() {
+        return LaunchProfile.parse(System.getProperty("browser.profile", "default"));
+    }
+
+    // WIDTHxHEIGHT used instead of maximizing when the profile asks for a fixed viewport
+    public static Dimension viewport() {
+        String[] size = System.getProperty("browser.viewport", "1366x768").toLowerCase().split("x");
+        return new Dimension(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()));
+    }
+
+    // Wraps every browser in Perf.CommandTimer and reports per-test and per-suite command latencies
+    public static boolean instrumentCommands() {
+        return Boolean.parseBoolean(System.getProperty("instrument.commands", "true"));
+    }
+
+    // Measured repetitions (after warm-up) of an action checked against a Perf.PerformanceBudget
+    public static int budgetRuns() {
+        return Integer.getInteger("budget.runs", 5);
+    }
+
+    public static int budgetWarmups() {
+        return Integer.getInteger("budget.warmups", 1);
+    }
+
+    // Per-test durations kept across runs for longest-first scheduling; delete the file to start over
+    public static Path durationsFile() {
+        return Path.of(System.getProperty("durations.file", "test-durations.tsv"));
+    }
+
+    // "i/n" runs only the i-th of n duration-balanced shards of the suite
+    public static String shard() {
+        return System.getProperty("shard");
+    }
+
+    public static Path shardDir() {
+        return Path.of(System.getProperty("shard.dir", "target/shards"));
+    }
+
+    // "failures" (default) captures screenshot, DOM and console log of failed tests, "all" of every test,
+    // "off" nothing; artifacts.sample additionally captures that fraction of passing tests
+    public static String artifactsMode() {
+        return System.getProperty("artifacts.capture", "failures");
+    }
+
+    public static double artifactsSampleRate() {
+        return Double.parseDouble(System.getProperty("artifacts.sample", "0"));
+    }
+
+    public static Path artifactsDir() {
+        return Path.of(System.getProperty("artifacts.dir", "target/artifacts"));
+    }
+
+    // Memory the not yet written artifacts may occupy before new ones are dropped
+    public static long artifactsQueueBytes() {
+        return Long.getLong("artifacts.queueMb", 64) * 1024 * 1024;
+    }
+
+    // How page-object forms are filled when a test does not choose: "typed" sends keystrokes per field,
+    // "batched" fills and submits them in one script. Arrange steps ask for batched input explicitly.
+    public static String formInput() {
+        return System.getProperty("form.input", "typed");
+    }
+
+    // Set to false to ignore every @NetworkPolicy, e.g. to compare against a run over the network
+    public static boolean networkPolicies() {
+        return Boolean.parseBoolean(System.getProperty("network.policies", "true"));
+    }
+
+    public static Path networkCacheDir() {
+        return Path.of(System.getProperty("network.cacheDir", "target/asset-cache"));
+    }
+
+    // @ReadOnly tests share a logged-in browser per persona and page; false gives each its own lease again
+    public static boolean shareReadOnlySessions() {
+        return Boolean.parseBoolean(System.getProperty("readonly.share", "true"));
+    }
+}
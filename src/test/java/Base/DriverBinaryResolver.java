@@ -0,0 +1,102 @@
+package Base;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+public final class DriverBinaryResolver {
+
+    private static final String CHROME_DRIVER_PROPERTY = "webdriver.chrome.driver";
+
+    private static volatile String chromedriverPath;
+
+    private DriverBinaryResolver() {
+    }
+
+    // Resolved once per JVM; every later call is a volatile read
+    public static String chromedriver() {
+        String path = chromedriverPath;
+        if (path == null) {
+            synchronized (DriverBinaryResolver.class) {
+                path = chromedriverPath;
+                if (path == null) {
+                    long start = System.nanoTime();
+                    path = resolveChromedriver();
+                    System.setProperty(CHROME_DRIVER_PROPERTY, path);
+                    chromedriverPath = path;
+                    System.out.printf("Resolved chromedriver in %.1f ms: %s%n",
+                            (System.nanoTime() - start) / 1_000_000.0, path);
+                }
+            }
+        }
+        return path;
+    }
+
+    private static String resolveChromedriver() {
+        String pinned = Config.chromedriverPath();
+        if (pinned != null) {
+            Path binary = Path.of(pinned);
+            if (!Files.isExecutable(binary)) {
+                throw new IllegalStateException("Pinned chromedriver is missing or not executable: " + binary);
+            }
+            return binary.toAbsolutePath().toString();
+        }
+
+        if (Config.offlineDrivers()) {
+            return findCachedChromedriver(Path.of(Config.driverCacheDir()));
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver().cachePath(Config.driverCacheDir());
+        manager.setup();
+        return manager.getDownloadedDriverPath();
+    }
+
+    private static String findCachedChromedriver(Path cacheDir) {
+        if (!Files.isDirectory(cacheDir)) {
+            throw new IllegalStateException("Offline driver cache directory does not exist: " + cacheDir);
+        }
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.equals("chromedriver") || name.equals("chromedriver.exe");
+                    })
+                    .filter(Files::isExecutable)
+                    .max(Comparator.comparing(DriverBinaryResolver::versionOf, DriverBinaryResolver::compareVersions)
+                            .thenComparing(Path::toString))
+                    .map(file -> file.toAbsolutePath().toString())
+                    .orElseThrow(() -> new IllegalStateException("No chromedriver found under offline cache " + cacheDir));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not scan offline driver cache " + cacheDir, e);
+        }
+    }
+
+    // WebDriverManager lays its cache out as .../chromedriver/<os>/<version>/chromedriver
+    private static String versionOf(Path binary) {
+        for (Path dir = binary.getParent(); dir != null; dir = dir.getParent()) {
+            String name = dir.getFileName() == null ? "" : dir.getFileName().toString();
+            if (name.matches("\\d+(\\.\\d+)*")) {
+                return name;
+            }
+        }
+        return "0";
+    }
+
+    private static int compareVersions(String a, String b) {
+        String[] left = a.split("\\.");
+        String[] right = b.split("\\.");
+        for (int i = 0; i < Math.max(left.length, right.length); i++) {
+            long l = i < left.length ? Long.parseLong(left[i]) : 0;
+            long r = i < right.length ? Long.parseLong(right[i]) : 0;
+            if (l != r) {
+                return Long.compare(l, r);
+            }
+        }
+        return 0;
+    }
+}
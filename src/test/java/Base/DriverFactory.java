@@ -0,0 +1,77 @@
+package Base;
+
+import Perf.CommandTimer;
+import Waits.WaitEngine;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class DriverFactory {
+
+    private static final Map<LaunchProfile, Timings> timings = new ConcurrentHashMap<>();
+
+    private DriverFactory() {
+    }
+
+    private static final class Timings {
+        final AtomicLong startups = new AtomicLong();
+        final AtomicLong startupNanos = new AtomicLong();
+        final AtomicLong navigations = new AtomicLong();
+        final AtomicLong navigationNanos = new AtomicLong();
+    }
+
+    // Launches a browser for the profile and leaves it on the base URL
+    public static WebDriver create(LaunchProfile profile) {
+        DriverBinaryResolver.chromedriver();
+
+        long start = System.nanoTime();
+        WebDriver driver = new ChromeDriver(profile.toChromeOptions());
+        if (Config.instrumentCommands()) {
+            driver = CommandTimer.instrument(driver);
+        }
+        // The in-page waits run as async scripts; Selenium's 30 s default would cut off a longer wait.timeoutMs
+        driver.manage().timeouts().scriptTimeout(WaitEngine.scriptTimeout());
+        if (profile.usesFixedViewport()) {
+            if (!profile.headless()) {
+                driver.manage().window().setSize(Config.viewport());
+            }
+        } else {
+            driver.manage().window().maximize();
+        }
+        Timings profileTimings = timingsFor(profile);
+        profileTimings.startups.incrementAndGet();
+        profileTimings.startupNanos.addAndGet(System.nanoTime() - start);
+
+        navigate(driver, profile, Config.baseUrl());
+        return driver;
+    }
+
+    public static void navigate(WebDriver driver, LaunchProfile profile, String url) {
+        long start = System.nanoTime();
+        driver.get(url);
+        Timings profileTimings = timingsFor(profile);
+        profileTimings.navigations.incrementAndGet();
+        profileTimings.navigationNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    public static String stats() {
+        StringBuilder report = new StringBuilder("Launch profiles:");
+        timings.forEach((profile, t) -> report.append(String.format(
+                "%n  %-30s %4d startups avg %7.1f ms, %5d base URL navigations avg %6.1f ms",
+                profile.label(),
+                t.startups.get(), average(t.startupNanos.get(), t.startups.get()),
+                t.navigations.get(), average(t.navigationNanos.get(), t.navigations.get()))));
+        return report.toString();
+    }
+
+    private static Timings timingsFor(LaunchProfile profile) {
+        return timings.computeIfAbsent(profile, p -> new Timings());
+    }
+
+    private static double average(long nanos, long count) {
+        return count == 0 ? 0 : nanos / 1_000_000.0 / count;
+    }
+}
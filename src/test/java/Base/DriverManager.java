@@ -0,0 +1,69 @@
+package Base;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.interactions.Interactive;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+public final class DriverManager {
+
+    private static final ThreadLocal<WebDriver> current = new ThreadLocal<>();
+
+    // One proxy is enough for every test instance: each call is routed to the calling thread's browser
+    private static final WebDriver threadBound = (WebDriver) Proxy.newProxyInstance(
+            DriverManager.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+                    HasCapabilities.class, Interactive.class, WrapsDriver.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getWrappedDriver":
+                        return getDriver();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "ThreadBoundDriver[" + current.get() + "]";
+                    default:
+                        try {
+                            return method.invoke(getDriver(), args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                }
+            });
+
+    private DriverManager() {
+    }
+
+    public static WebDriver threadBound() {
+        return threadBound;
+    }
+
+    public static WebDriver getDriver() {
+        WebDriver driver = current.get();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName());
+        }
+        return driver;
+    }
+
+    public static boolean hasDriver() {
+        return current.get() != null;
+    }
+
+    static void bind(WebDriver driver) {
+        current.set(driver);
+    }
+
+    static WebDriver unbind() {
+        WebDriver driver = current.get();
+        current.remove();
+        return driver;
+    }
+}
@@ -0,0 +1,197 @@
+package Base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DriverPool {
+
+    private final LaunchProfile profile;
+    private final int maxLeases;
+    // Caps the browsers leased at once; null leaves the pool unbounded
+    private final Semaphore capacity;
+    // Each lease gets a fresh BiDi user context instead of a browser with its state cleared
+    private final boolean userContexts;
+
+    private final Deque<WebDriver> idle = new ConcurrentLinkedDeque<>();
+    private final Map<WebDriver, Integer> leaseCounts = new ConcurrentHashMap<>();
+    private final Map<WebDriver, UserContexts.Isolation> isolations = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong recycled = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+    private final AtomicLong resetNanos = new AtomicLong();
+    private final AtomicLong maxResetNanos = new AtomicLong();
+    private final AtomicLong contextOpens = new AtomicLong();
+    private final AtomicLong contextOpenNanos = new AtomicLong();
+
+    public DriverPool(LaunchProfile profile, int maxLeases) {
+        this(profile, maxLeases, 0);
+    }
+
+    public DriverPool(LaunchProfile profile, int maxLeases, int maxBrowsers) {
+        this(profile, maxLeases, maxBrowsers, false);
+    }
+
+    public DriverPool(LaunchProfile profile, int maxLeases, int maxBrowsers, boolean userContexts) {
+        this.profile = profile;
+        this.maxLeases = maxLeases;
+        this.capacity = maxBrowsers > 0 ? new Semaphore(maxBrowsers, true) : null;
+        this.userContexts = userContexts;
+    }
+
+    // Blocks while maxBrowsers browsers are leased; cheap for callers running on virtual threads
+    public WebDriver lease() {
+        if (capacity != null) {
+            capacity.acquireUninterruptibly();
+        }
+        return leaseAcquired();
+    }
+
+    // Like lease(), but returns null when no browser slot frees up within the wait
+    public WebDriver tryLease(Duration wait) {
+        try {
+            if (capacity != null && !capacity.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled browser", e);
+        }
+        return leaseAcquired();
+    }
+
+    private WebDriver leaseAcquired() {
+        try {
+            WebDriver driver = idle.pollFirst();
+            if (driver != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                driver = DriverFactory.create(profile);
+                leaseCounts.put(driver, 0);
+            }
+            leaseCounts.merge(driver, 1, Integer::sum);
+            if (userContexts) {
+                isolate(driver);
+            }
+            return driver;
+        } catch (RuntimeException e) {
+            if (capacity != null) {
+                capacity.release();
+            }
+            throw e;
+        }
+    }
+
+    public void release(WebDriver driver, boolean failed) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            giveBack(driver, failed);
+        } finally {
+            if (capacity != null) {
+                capacity.release();
+            }
+        }
+    }
+
+    private void giveBack(WebDriver driver, boolean failed) {
+        UserContexts.Isolation isolation = isolations.remove(driver);
+        // A failed test's state goes away with its user context, so only a cleared browser is replaced
+        if ((failed && isolation == null) || leaseCounts.getOrDefault(driver, 0) >= maxLeases) {
+            recycle(driver);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (isolation != null) {
+                UserContexts.close(driver, isolation);
+            } else {
+                reset(driver);
+            }
+        } catch (RuntimeException e) {
+            recycle(driver);
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        resets.incrementAndGet();
+        resetNanos.addAndGet(elapsed);
+        maxResetNanos.accumulateAndGet(elapsed, Math::max);
+
+        idle.offerFirst(driver);
+    }
+
+    public void shutdown() {
+        WebDriver driver;
+        while ((driver = idle.pollFirst()) != null) {
+            quit(driver);
+        }
+    }
+
+    public String stats() {
+        long leases = hits.get() + misses.get();
+        double hitRate = leases == 0 ? 0 : 100.0 * hits.get() / leases;
+        double avgResetMs = resets.get() == 0 ? 0 : resetNanos.get() / 1_000_000.0 / resets.get();
+        String pool = String.format("Driver pool [" + profile.label() + "]: %d leases, %d hits, %d misses (%.1f%% hit rate), %d recycled, ",
+                leases, hits.get(), misses.get(), hitRate, recycled.get());
+        if (userContexts) {
+            double avgOpenMs = contextOpens.get() == 0 ? 0 : contextOpenNanos.get() / 1_000_000.0 / contextOpens.get();
+            return pool + String.format("%d user contexts opened avg %.1f ms, %d removed avg %.1f ms max %.1f ms",
+                    contextOpens.get(), avgOpenMs, resets.get(), avgResetMs, maxResetNanos.get() / 1_000_000.0);
+        }
+        return pool + String.format("%d resets avg %.1f ms max %.1f ms",
+                resets.get(), avgResetMs, maxResetNanos.get() / 1_000_000.0);
+    }
+
+    // Moves the leased browser into a new tab of a new user context, sitting on the base URL like a reset one
+    private void isolate(WebDriver driver) {
+        long start = System.nanoTime();
+        try {
+            isolations.put(driver, UserContexts.open(driver));
+            DriverFactory.navigate(driver, profile, Config.baseUrl());
+        } catch (RuntimeException e) {
+            isolations.remove(driver);
+            recycle(driver);
+            throw e;
+        }
+        contextOpens.incrementAndGet();
+        contextOpenNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    private void reset(WebDriver driver) {
+        String baseUrl = Config.baseUrl();
+        // Cookies and storage can only be cleared for the origin the browser is currently on
+        if (!driver.getCurrentUrl().startsWith(baseUrl)) {
+            driver.get(baseUrl);
+        }
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        DriverFactory.navigate(driver, profile, baseUrl);
+    }
+
+    private void recycle(WebDriver driver) {
+        recycled.incrementAndGet();
+        quit(driver);
+    }
+
+    private void quit(WebDriver driver) {
+        leaseCounts.remove(driver);
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            System.out.println("Failed to quit pooled driver: " + e.getMessage());
+        }
+    }
+}
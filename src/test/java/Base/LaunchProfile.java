@@ -0,0 +1,104 @@
+package Base;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Each option can be switched on independently so its effect on startup and navigation time can be
+// measured on its own, e.g. -Dbrowser.profile=headless,eager. "default" is a plain headed Chrome,
+// "lean" turns everything on.
+public record LaunchProfile(boolean headless, boolean fixedViewport, boolean eager, boolean trimmed) {
+
+    public static final LaunchProfile DEFAULT = new LaunchProfile(false, false, false, false);
+    public static final LaunchProfile LEAN = new LaunchProfile(true, true, true, true);
+
+    public static LaunchProfile parse(String spec) {
+        String normalized = spec.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || normalized.equals("default")) {
+            return DEFAULT;
+        }
+        if (normalized.equals("lean")) {
+            return LEAN;
+        }
+
+        boolean headless = false;
+        boolean fixedViewport = false;
+        boolean eager = false;
+        boolean trimmed = false;
+        for (String option : normalized.split("[,+]")) {
+            switch (option.trim()) {
+                case "headless" -> headless = true;
+                case "viewport" -> fixedViewport = true;
+                case "eager" -> eager = true;
+                case "trimmed" -> trimmed = true;
+                default -> throw new IllegalArgumentException("Unknown browser profile option '" + option
+                        + "', expected default, lean or a combination of headless, viewport, eager, trimmed");
+            }
+        }
+        return new LaunchProfile(headless, fixedViewport, eager, trimmed);
+    }
+
+    public ChromeOptions toChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        // Keeps the console log readable for failure artifacts
+        options.setCapability("goog:loggingPrefs", Map.of("browser", "ALL"));
+        if (Config.userContexts()) {
+            // Opens the WebDriver BiDi connection the per-test user contexts are created over
+            options.setCapability("webSocketUrl", true);
+        }
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        if (usesFixedViewport()) {
+            Dimension size = Config.viewport();
+            options.addArguments("--window-size=" + size.getWidth() + "," + size.getHeight());
+        }
+        if (eager) {
+            // Navigation returns at DOMContentLoaded instead of waiting for every image and font
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+        if (trimmed) {
+            options.addArguments(
+                    "--disable-background-networking",
+                    "--disable-extensions",
+                    "--disable-component-extensions-with-background-pages",
+                    "--disable-gpu",
+                    "--disable-sync",
+                    "--disable-default-apps",
+                    "--no-first-run",
+                    "--metrics-recording-only",
+                    "--disable-features=Translate,OptimizationHints,MediaRouter");
+        }
+        return options;
+    }
+
+    // A headless window has no screen to maximize to, so it always gets the fixed viewport
+    public boolean usesFixedViewport() {
+        return fixedViewport || headless;
+    }
+
+    public String label() {
+        if (equals(DEFAULT)) {
+            return "default";
+        }
+        List<String> options = new ArrayList<>();
+        if (headless) {
+            options.add("headless");
+        }
+        if (fixedViewport) {
+            options.add("viewport");
+        }
+        if (eager) {
+            options.add("eager");
+        }
+        if (trimmed) {
+            options.add("trimmed");
+        }
+        return String.join("+", options);
+    }
+}
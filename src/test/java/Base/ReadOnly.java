@@ -0,0 +1,20 @@
+package Base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a test that only reads a page. Read-only tests of the same persona and page take turns on one
+// logged-in browser instead of each leasing, resetting and logging in; a test that changes the session's
+// URL, cookies, storage or DOM is failed and its browser discarded.
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadOnly {
+
+    // Empty takes the persona from the first String parameter of a data-driven test
+    String persona() default "";
+
+    // The page the test reads and leaves the browser on
+    String page() default "inventory.html";
+}
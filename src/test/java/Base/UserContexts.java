@@ -0,0 +1,39 @@
+package Base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+
+// A WebDriver BiDi user context is an incognito-like partition of one browser process with its own cookies,
+// storage and cache. Giving every test a tab in a fresh one isolates it without relaunching Chrome.
+final class UserContexts {
+
+    // homeWindow is the browser's original tab; it stays open so the process survives between tests
+    record Isolation(String userContext, String tab, String homeWindow) {
+    }
+
+    private UserContexts() {
+    }
+
+    static Isolation open(WebDriver driver) {
+        String homeWindow = driver.getWindowHandle();
+        String userContext = new Browser(driver).createUserContext();
+        try {
+            BrowsingContext tab = new BrowsingContext(driver, new CreateContextParameters(WindowType.TAB).userContext(userContext));
+            // Chrome uses the same id for a BiDi browsing context and a classic window handle
+            driver.switchTo().window(tab.getId());
+            return new Isolation(userContext, tab.getId(), homeWindow);
+        } catch (RuntimeException e) {
+            new Browser(driver).removeUserContext(userContext);
+            throw e;
+        }
+    }
+
+    // Removing the user context closes its tab and any popups the test opened, and discards their state
+    static void close(WebDriver driver, Isolation isolation) {
+        driver.switchTo().window(isolation.homeWindow());
+        new Browser(driver).removeUserContext(isolation.userContext());
+    }
+}
@@ -0,0 +1,79 @@
+package DataProviders;
+
+import org.testng.ITestNGMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Invocations a test method will get, found by calling its static data provider up front. Non data-driven
+// methods and providers that cannot be called without a test context count as one invocation.
+// The rows are read in full and kept for the run: the shard plan splits by each row's key and the estimates
+// need the row count before anything runs. That is a second call outside TestNG, so providers should be cheap
+// and return the same rows every time; one that returns an Iterator gains nothing from its laziness here.
+public final class DataProviderRows {
+
+    private static final Map<Method, Optional<List<Object[]>>> rows = new ConcurrentHashMap<>();
+
+    private DataProviderRows() {
+    }
+
+    public static int count(ITestNGMethod method) {
+        return rows(method).map(list -> Math.max(1, list.size())).orElse(1);
+    }
+
+    // The rows the method will be invoked with, or empty when it is not data-driven or its provider needs
+    // a test context
+    public static Optional<List<Object[]>> rows(ITestNGMethod method) {
+        Method test = method.getConstructorOrMethod().getMethod();
+        return test == null ? Optional.empty() : rows.computeIfAbsent(test, DataProviderRows::invoke);
+    }
+
+    private static Optional<List<Object[]>> invoke(Method test) {
+        Test annotation = test.getAnnotation(Test.class);
+        if (annotation == null || annotation.dataProvider().isEmpty()) {
+            return Optional.empty();
+        }
+        Class<?> providerClass = annotation.dataProviderClass() == Object.class
+                ? test.getDeclaringClass()
+                : annotation.dataProviderClass();
+        Method provider = find(providerClass, annotation.dataProvider());
+        if (provider == null || !Modifier.isStatic(provider.getModifiers()) || provider.getParameterCount() > 0) {
+            return Optional.empty();
+        }
+        try {
+            provider.setAccessible(true);
+            Object result = provider.invoke(null);
+            if (result instanceof Object[][] array) {
+                return Optional.of(List.of(array));
+            }
+            if (result instanceof Iterator<?> iterator) {
+                List<Object[]> list = new ArrayList<>();
+                iterator.forEachRemaining(row -> list.add((Object[]) row));
+                return Optional.of(list);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            System.out.println("Could not call data provider " + annotation.dataProvider() + ": " + e);
+        }
+        return Optional.empty();
+    }
+
+    private static Method find(Class<?> type, String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                DataProvider provider = method.getAnnotation(DataProvider.class);
+                if (provider != null && (provider.name().equals(name) || provider.name().isEmpty() && method.getName().equals(name))) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+}
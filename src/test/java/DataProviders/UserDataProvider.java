@@ -4,7 +4,10 @@ import org.testng.annotations.DataProvider;
 
 public class UserDataProvider {
 
-    @DataProvider(name = "usersWhoCanReachCart")
+    // Rows run concurrently on the data-provider pool (dataprovider.threads), each on the browser its own thread
+    // leases in BaseTest. A plain array on purpose: the shard plan and the duration estimates read every row
+    // before the run starts (DataProviderRows), so a lazy Iterator would be materialised anyway.
+    @DataProvider(name = "usersWhoCanReachCart", parallel = true)
     public static Object[][] usersWhoCanReachCart() {
         return new Object[][] {
                 {"standard_user", true},
@@ -14,4 +17,14 @@ public class UserDataProvider {
         };
     }
 
+    // persona, LCP p50 budget (ms), LCP p95 budget (ms) of the page shown after logging in.
+    // Kept serial: concurrent browsers would compete for the CPU the budgets are measured on.
+    @DataProvider(name = "loginPerformanceBudgets")
+    public static Object[][] loginPerformanceBudgets() {
+        return new Object[][] {
+                {"standard_user", 1000.0, 2000.0},
+                {"performance_glitch_user", 4000.0, 5000.0}
+        };
+    }
+
 }
@@ -0,0 +1,31 @@
+package Listeners;
+
+import Perf.DurationStore;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+// Feeds every finished test invocation into the DurationStore and persists it once the suite ends
+public class DurationRecorder implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DurationStore.shared().save();
+    }
+
+    private void record(ITestResult result) {
+        DurationStore.shared().record(result.getMethod(), result.getParameters(),
+                result.getEndMillis() - result.getStartMillis());
+    }
+}
@@ -0,0 +1,81 @@
+package Listeners;
+
+import Perf.DurationStore;
+import Perf.TestEstimates;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Parallel runs start the longest tests first. With idle workers picking the next test in this order, this
+// is longest-processing-time-first scheduling, which keeps a slow test from starting last and stretching
+// the run. Sequential runs keep TestNG's order.
+public class LongestFirstInterceptor implements IMethodInterceptor, IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        // TestNG re-sorts runnable methods by instance unless told to keep the order it was handed
+        if (System.getProperty("testng.order") == null && suites.stream().anyMatch(LongestFirstInterceptor::parallel)) {
+            System.setProperty("testng.order", "none");
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        XmlSuite suite = context.getSuite().getXmlSuite();
+        if (!parallel(suite)) {
+            return methods;
+        }
+
+        TestEstimates estimates = new TestEstimates(DurationStore.shared(),
+                methods.stream().map(IMethodInstance::getMethod).toList());
+        Map<ITestNGMethod, Double> millis = methods.stream()
+                .map(IMethodInstance::getMethod)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), estimates::method));
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparing((IMethodInstance instance) -> millis.get(instance.getMethod()))
+                .reversed()
+                .thenComparing(instance -> instance.getMethod().getQualifiedName()));
+
+        long unknown = millis.keySet().stream().filter(method -> !estimates.known(method)).count();
+        System.out.printf("Longest-first order: %d methods, %.1f s of tests, ~%.1f s on %d threads (%d estimated statically)%n",
+                ordered.size(), total(millis) / 1000, makespan(ordered, millis, suite.getThreadCount()) / 1000,
+                suite.getThreadCount(), unknown);
+        return ordered;
+    }
+
+    // -Dparallel is applied by ParallelSuiteListener, which may alter the suite after this listener
+    private static boolean parallel(XmlSuite suite) {
+        String override = System.getProperty("parallel");
+        XmlSuite.ParallelMode mode = override != null ? XmlSuite.ParallelMode.getValidParallel(override) : suite.getParallel();
+        return mode != null && mode != XmlSuite.ParallelMode.NONE;
+    }
+
+    private static double total(Map<ITestNGMethod, Double> millis) {
+        return millis.values().stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    // Each test goes to the worker that frees up first, as TestNG's pool does
+    private static double makespan(List<IMethodInstance> ordered, Map<ITestNGMethod, Double> millis, int threads) {
+        PriorityQueue<Double> workers = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            workers.add(0.0);
+        }
+        for (IMethodInstance instance : ordered) {
+            workers.add(workers.poll() + millis.get(instance.getMethod()));
+        }
+        return workers.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+    }
+}
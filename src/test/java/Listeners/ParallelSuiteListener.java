@@ -0,0 +1,39 @@
+package Listeners;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.IDataProviderAnnotation;
+import org.testng.xml.XmlSuite;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+public class ParallelSuiteListener implements IAlterSuiteListener, IAnnotationTransformer {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String parallel = System.getProperty("parallel");
+        Integer threads = Integer.getInteger("threads");
+        Integer dataProviderThreads = Integer.getInteger("dataprovider.threads");
+
+        for (XmlSuite suite : suites) {
+            if (parallel != null) {
+                suite.setParallel(XmlSuite.ParallelMode.getValidParallel(parallel));
+            }
+            if (threads != null) {
+                suite.setThreadCount(threads);
+            }
+            if (dataProviderThreads != null) {
+                suite.setDataProviderThreadCount(dataProviderThreads);
+            }
+        }
+    }
+
+    // -Ddataprovider.parallel=false runs the rows of parallel data providers one after another again
+    @Override
+    public void transform(IDataProviderAnnotation annotation, Method method) {
+        if (!Boolean.parseBoolean(System.getProperty("dataprovider.parallel", "true"))) {
+            annotation.setParallel(false);
+        }
+    }
+}
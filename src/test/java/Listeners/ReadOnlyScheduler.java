@@ -0,0 +1,54 @@
+package Listeners;
+
+import Base.DriverManager;
+import Base.ReadOnly;
+import Session.SharedSessions;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+// Runs @ReadOnly tests ahead of the mutating ones, so they follow each other on the shared sessions and the
+// parked browsers are handed back before the mutating tests need them. The order within each half is kept,
+// including a longest-first order in parallel runs. After every passing read-only test the session is
+// compared with the state it was shared in, and a test that changed it is failed.
+public class ReadOnlyScheduler implements IMethodInterceptor, IInvokedMethodListener {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        List<IMethodInstance> readOnly = new ArrayList<>();
+        List<IMethodInstance> mutating = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            (isReadOnly(instance) ? readOnly : mutating).add(instance);
+        }
+        if (!readOnly.isEmpty()) {
+            System.out.printf("Read-only first: %d read-only and %d mutating test methods%n", readOnly.size(), mutating.size());
+        }
+        readOnly.addAll(mutating);
+        SharedSessions.startReadOnlyPhase();
+        return readOnly;
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || !result.isSuccess() || !DriverManager.hasDriver()) {
+            return;
+        }
+        List<String> changed = SharedSessions.verify(DriverManager.getDriver());
+        if (!changed.isEmpty()) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("@ReadOnly test changed the shared session: " + String.join("; ", changed)));
+        }
+    }
+
+    private static boolean isReadOnly(IMethodInstance instance) {
+        Method method = instance.getMethod().getConstructorOrMethod().getMethod();
+        return method != null && method.isAnnotationPresent(ReadOnly.class);
+    }
+}
@@ -0,0 +1,47 @@
+package Load;
+
+import Base.Config;
+import Pages.CartPage;
+import Pages.CheckoutPage;
+import Pages.InventoryPage;
+import Pages.LoginPage;
+import Waits.WaitEngine;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+// An ordered list of named steps; each step is timed on its own and fails by throwing
+public record Journey(String name, List<Step> steps) {
+
+    public record Step(String name, Consumer<WebDriver> action) {
+    }
+
+    // login -> add items -> cart -> checkout information -> finish
+    public static Journey checkout(String persona, int items) {
+        return new Journey("checkout", List.of(
+                new Step("login", driver -> {
+                    driver.get(Config.baseUrl());
+                    new LoginPage(driver).login(persona, "secret_sauce");
+                    WaitEngine.untilUrlContains(driver, "inventory");
+                }),
+                new Step("addItems", driver -> new InventoryPage(driver).addItemsToCart(items)),
+                new Step("openCart", driver -> {
+                    new InventoryPage(driver).goToCart();
+                    WaitEngine.untilUrlContains(driver, "cart");
+                }),
+                new Step("checkoutInfo", driver -> {
+                    new CartPage(driver).clickCheckout();
+                    new CheckoutPage(driver).fillCheckoutInfo("Load", "User", "11000");
+                    WaitEngine.untilUrlContains(driver, "checkout-step-two");
+                }),
+                new Step("finish", driver -> {
+                    CheckoutPage checkoutPage = new CheckoutPage(driver);
+                    checkoutPage.finishCheckout();
+                    String message = checkoutPage.getConfirmationMessage();
+                    if (!message.equals("Thank you for your order!")) {
+                        throw new IllegalStateException("Unexpected confirmation message: " + message);
+                    }
+                })));
+    }
+}
@@ -0,0 +1,27 @@
+package Load;
+
+import java.time.Duration;
+
+// users: virtual users cycling through the journey; browsers: upper bound of concurrently open browsers.
+// Users beyond the browser count queue for the next free browser instead of getting a thread each.
+public record LoadProfile(int users, int browsers, Duration rampUp, Duration thinkTime, Duration duration,
+                          String persona, int items) {
+
+    public static LoadProfile fromSystemProperties() {
+        int users = Integer.getInteger("load.users", 10);
+        return new LoadProfile(
+                users,
+                Math.min(users, Integer.getInteger("load.browsers", 4)),
+                Duration.ofSeconds(Long.getLong("load.rampUpSec", 10)),
+                Duration.ofMillis(Long.getLong("load.thinkMs", 1000)),
+                Duration.ofSeconds(Long.getLong("load.durationSec", 60)),
+                System.getProperty("load.persona", "standard_user"),
+                Integer.getInteger("load.items", 2));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d users on %d browsers, ramp-up %ds, think time %dms, duration %ds, persona %s, %d items",
+                users, browsers, rampUp.toSeconds(), thinkTime.toMillis(), duration.toSeconds(), persona, items);
+    }
+}
@@ -0,0 +1,258 @@
+package Load;
+
+import Base.Config;
+import Base.DriverPool;
+import Perf.LatencyHistogram;
+import StandIn.SauceDemoServer;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Drives a Journey with many virtual users on a bounded set of pooled browsers:
+//   mvn -Pload test-compile exec:java -Dload.users=50 -Dload.browsers=8 -DbaseUrl=https://staging.example/
+// A virtual user is only a scheduled task. It holds a browser for one journey, sleeps on the scheduler during
+// think time and queues for the next free browser when all of them are busy, so threads never exceed the
+// browser count.
+public class LoadRunner {
+
+    private static final String LEASE = "(browser lease)";
+
+    private final LoadProfile profile;
+    private final Journey journey;
+    private final DriverPool pool;
+    private final Semaphore browsers;
+    private final Queue<VirtualUser> waiting = new ConcurrentLinkedQueue<>();
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+    private final CountDownLatch finished;
+
+    private final Map<String, LatencyHistogram> stepLatency = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> stepErrors = new LinkedHashMap<>();
+    private final Map<String, String> firstErrors = new ConcurrentHashMap<>();
+    private final LatencyHistogram journeyLatency = new LatencyHistogram();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile long startNanos;
+    private volatile long deadlineNanos;
+    private volatile long elapsedNanos;
+
+    public LoadRunner(LoadProfile profile, Journey journey) {
+        this.profile = profile;
+        this.journey = journey;
+        this.pool = new DriverPool(Config.launchProfile(), Config.maxLeasesPerBrowser());
+        this.browsers = new Semaphore(profile.browsers());
+        this.workers = Executors.newFixedThreadPool(profile.browsers(), daemon("load-worker"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("load-scheduler"));
+        this.finished = new CountDownLatch(profile.users());
+
+        stepErrors.put(LEASE, new AtomicLong());
+        for (Journey.Step step : journey.steps()) {
+            stepLatency.put(step.name(), new LatencyHistogram());
+            stepErrors.put(step.name(), new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // Load goes to the embedded stand-in unless a staging copy is given with -DbaseUrl, and the command
+        // instrumentation is off so its bookkeeping is not part of the client cost
+        if (System.getProperty("baseUrl") == null) {
+            System.setProperty("baseUrl", "local");
+        }
+        if (System.getProperty("instrument.commands") == null) {
+            System.setProperty("instrument.commands", "false");
+        }
+
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        LoadRunner runner = new LoadRunner(profile, Journey.checkout(profile.persona(), profile.items()));
+        runner.run();
+        System.out.println(runner.report());
+
+        // The stand-in's dispatcher is not a daemon thread and would keep exec:java waiting
+        if (Config.localStandIn()) {
+            SauceDemoServer.shared().stop();
+        }
+    }
+
+    public void run() throws InterruptedException {
+        System.out.println("Load: " + journey.name() + " journey against " + Config.baseUrl() + ", " + profile);
+        startNanos = System.nanoTime();
+        deadlineNanos = startNanos + profile.duration().toNanos();
+
+        for (int i = 0; i < profile.users(); i++) {
+            VirtualUser user = new VirtualUser(i + 1);
+            long delay = profile.rampUp().toNanos() * i / profile.users();
+            scheduler.schedule(() -> offer(user), delay, TimeUnit.NANOSECONDS);
+        }
+        ScheduledFuture<?> progress = scheduler.scheduleAtFixedRate(this::printProgress, 10, 10, TimeUnit.SECONDS);
+
+        // Journeys in flight at the deadline are allowed to complete
+        Duration grace = Duration.ofMinutes(2);
+        if (!finished.await(profile.duration().plus(profile.rampUp()).plus(grace).toMillis(), TimeUnit.MILLISECONDS)) {
+            System.out.println("Load: " + finished.getCount() + " virtual users still busy " + grace.toSeconds()
+                    + " s after the deadline, reporting without them");
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+
+        progress.cancel(false);
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+        pool.shutdown();
+    }
+
+    public String report() {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long done = completed.get();
+        long errors = failed.get();
+        long attempts = done + errors;
+        long steps = stepLatency.values().stream().mapToLong(LatencyHistogram::count).sum();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Load report: %s journey, %.1f s%n", journey.name(), seconds));
+        report.append(String.format("  journeys: %d completed, %d failed (%.1f%% error rate), %.2f journeys/s, %.2f steps/s%n",
+                done, errors, attempts == 0 ? 0 : 100.0 * errors / attempts,
+                seconds == 0 ? 0 : done / seconds, seconds == 0 ? 0 : steps / seconds));
+        // End-to-end journey time includes the think time between steps
+        report.append(String.format("  %-16s %s%n", journey.name(), journeyLatency.summary()));
+        for (Map.Entry<String, LatencyHistogram> step : stepLatency.entrySet()) {
+            report.append(String.format("  %-16s %s errors=%d%n", step.getKey(), step.getValue().summary(),
+                    stepErrors.get(step.getKey()).get()));
+        }
+        if (stepErrors.get(LEASE).get() > 0) {
+            report.append(String.format("  %-16s errors=%d%n", LEASE, stepErrors.get(LEASE).get()));
+        }
+        firstErrors.forEach((step, error) -> report.append("  first ").append(step).append(" error: ").append(error)
+                .append(System.lineSeparator()));
+        report.append("  ").append(pool.stats());
+        return report.toString();
+    }
+
+    // Starts the user's next journey on a free browser, or queues the user until one is released
+    private void offer(VirtualUser user) {
+        if (System.nanoTime() >= deadlineNanos) {
+            finished.countDown();
+            return;
+        }
+        waiting.add(user);
+        dispatch();
+    }
+
+    // Called after every enqueue and every browser release, so a queued user is never left behind
+    private void dispatch() {
+        while (!waiting.isEmpty() && browsers.tryAcquire()) {
+            VirtualUser user = waiting.poll();
+            if (user == null) {
+                browsers.release();
+            } else if (System.nanoTime() >= deadlineNanos) {
+                browsers.release();
+                finished.countDown();
+            } else {
+                workers.execute(() -> startJourney(user));
+            }
+        }
+    }
+
+    private void startJourney(VirtualUser user) {
+        user.journeyStart = System.nanoTime();
+        try {
+            user.driver = pool.lease();
+        } catch (RuntimeException e) {
+            recordError(LEASE, e);
+            finishJourney(user, false);
+            return;
+        }
+        runStep(user, 0);
+    }
+
+    private void runStep(VirtualUser user, int index) {
+        Journey.Step step = journey.steps().get(index);
+        long start = System.nanoTime();
+        try {
+            step.action().accept(user.driver);
+        } catch (RuntimeException e) {
+            recordError(step.name(), e);
+            finishJourney(user, false);
+            return;
+        }
+        stepLatency.get(step.name()).record(System.nanoTime() - start);
+
+        if (index + 1 == journey.steps().size()) {
+            finishJourney(user, true);
+        } else {
+            // The browser stays with the user while it "reads" the page; no thread is held meanwhile
+            scheduler.schedule(() -> workers.execute(() -> runStep(user, index + 1)), thinkNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void finishJourney(VirtualUser user, boolean success) {
+        if (success) {
+            completed.incrementAndGet();
+            journeyLatency.record(System.nanoTime() - user.journeyStart);
+        } else {
+            failed.incrementAndGet();
+        }
+        pool.release(user.driver, !success);
+        user.driver = null;
+
+        browsers.release();
+        dispatch();
+        scheduler.schedule(() -> offer(user), thinkNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void recordError(String step, RuntimeException e) {
+        stepErrors.get(step).incrementAndGet();
+        String message = String.valueOf(e.getMessage()).lines().findFirst().orElse("");
+        firstErrors.putIfAbsent(step, e.getClass().getSimpleName() + ": " + message);
+    }
+
+    // Uniformly spread over 0.5x-1.5x of the configured think time so users do not move in lockstep
+    private long thinkNanos() {
+        long think = profile.thinkTime().toNanos();
+        return think == 0 ? 0 : think / 2 + ThreadLocalRandom.current().nextLong(think + 1);
+    }
+
+    private void printProgress() {
+        System.out.printf("Load t=%ds: %d browsers busy, %d users waiting, %d journeys completed, %d failed%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos),
+                profile.browsers() - browsers.availablePermits(), waiting.size(), completed.get(), failed.get());
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class VirtualUser {
+        private final int id;
+        private volatile WebDriver driver;
+        private volatile long journeyStart;
+
+        private VirtualUser(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return "user-" + id;
+        }
+    }
+}
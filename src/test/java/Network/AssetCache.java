@@ -0,0 +1,74 @@
+package Network;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Static assets by URL, kept on disk across runs and in memory once read. Each asset is a body file named
+// after the SHA-256 of its URL plus a ".type" file with its content type. Stale entries are never
+// revalidated: delete the directory (mvn clean does) after the application's assets change.
+public class AssetCache {
+
+    public record Asset(String contentType, byte[] body) {
+    }
+
+    private final Path root;
+    private final Map<String, Asset> memory = new ConcurrentHashMap<>();
+
+    public AssetCache(Path root) {
+        this.root = root;
+    }
+
+    public Optional<Asset> get(String url) {
+        Asset asset = memory.get(url);
+        if (asset != null) {
+            return Optional.of(asset);
+        }
+        String key = key(url);
+        Path body = root.resolve(key);
+        Path type = root.resolve(key + ".type");
+        if (!Files.isRegularFile(body) || !Files.isRegularFile(type)) {
+            return Optional.empty();
+        }
+        try {
+            asset = new Asset(Files.readString(type, StandardCharsets.UTF_8), Files.readAllBytes(body));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        memory.put(url, asset);
+        return Optional.of(asset);
+    }
+
+    // Written to temporary files and moved into place, so concurrent browsers never read half an asset
+    public void put(String url, Asset asset) {
+        memory.put(url, asset);
+        String key = key(url);
+        try {
+            Files.createDirectories(root);
+            Path body = Files.createTempFile(root, key, ".tmp");
+            Files.write(body, asset.body());
+            Path type = Files.createTempFile(root, key, ".tmp");
+            Files.writeString(type, asset.contentType(), StandardCharsets.UTF_8);
+            Files.move(type, root.resolve(key + ".type"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(body, root.resolve(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("Could not cache " + url + " in " + root + ": " + e.getMessage());
+        }
+    }
+
+    private static String key(String url) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package Network;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Shapes the browser's traffic for a test class, e.g. @NetworkPolicy(block = ResourceType.FONT, cache = ResourceType.IMAGE).
+// On a test method it replaces the class policy; an empty @NetworkPolicy turns interception off for that method.
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Inherited
+public @interface NetworkPolicy {
+
+    // Answered with an empty 204 without reaching the network
+    ResourceType[] block() default {};
+
+    // Requests whose URL contains any of these strings are blocked as well
+    String[] blockUrls() default {};
+
+    // Blocks every request to a host other than the one under test
+    boolean blockThirdParty() default false;
+
+    // Served from network.cacheDir once fetched, across runs
+    ResourceType[] cache() default {};
+}
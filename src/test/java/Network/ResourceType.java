@@ -0,0 +1,40 @@
+package Network;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+// What a request fetches, told apart by the extension of its path; documents, XHR and
+// extension-less URLs have no type and are never blocked or cached by type
+public enum ResourceType {
+    IMAGE("png", "jpg", "jpeg", "gif", "svg", "webp", "avif", "ico"),
+    FONT("woff", "woff2", "ttf", "otf", "eot"),
+    STYLESHEET("css"),
+    SCRIPT("js", "mjs"),
+    MEDIA("mp4", "webm", "mp3", "ogg", "wav");
+
+    private final Set<String> extensions;
+
+    ResourceType(String... extensions) {
+        this.extensions = Set.of(extensions);
+    }
+
+    public static Optional<ResourceType> of(URI uri) {
+        String path = uri.getPath();
+        if (path == null) {
+            return Optional.empty();
+        }
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || dot < path.lastIndexOf('/')) {
+            return Optional.empty();
+        }
+        String extension = path.substring(dot + 1).toLowerCase(Locale.ROOT);
+        for (ResourceType type : values()) {
+            if (type.extensions.contains(extension)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,184 @@
+package Network;
+
+import Base.Config;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Applies a NetworkPolicy to the current test's browser through a DevTools NetworkInterceptor. Blocked
+// requests and cache hits are answered by the interceptor, so the page never waits on the network for them.
+// Requests the policy does not touch continue at the request stage without their response being paused.
+public final class TrafficControl {
+
+    private record Interception(DevTools devTools, NetworkInterceptor interceptor) {
+    }
+
+    private static final ThreadLocal<Interception> active = new ThreadLocal<>();
+
+    private static final AtomicLong intercepted = new AtomicLong();
+    private static final AtomicLong blocked = new AtomicLong();
+    // By resource type; blocked requests without a type count under "third-party" or "url" instead
+    private static final Map<String, AtomicLong> blockedByType = new ConcurrentHashMap<>();
+    private static final AtomicLong cacheHits = new AtomicLong();
+    private static final AtomicLong bytesServed = new AtomicLong();
+    private static final AtomicLong cacheMisses = new AtomicLong();
+    private static final AtomicLong bytesFetched = new AtomicLong();
+
+    private TrafficControl() {
+    }
+
+    private static final class Holder {
+        static final AssetCache cache = new AssetCache(Config.networkCacheDir());
+    }
+
+    // Tests still run when DevTools is unavailable (e.g. no matching CDP version); they just use the network
+    public static void start(WebDriver driver, NetworkPolicy policy) {
+        if (policy == null || !Config.networkPolicies() || isEmpty(policy)) {
+            return;
+        }
+        try {
+            // The browser's DevTools session stays on the tab it was first opened for. A pooled browser may
+            // since have switched tabs (driver.mode=contexts closes each test's tab), so attach to the
+            // current one; NetworkInterceptor then reuses this session.
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSession(driver.getWindowHandle());
+            active.set(new Interception(devTools,
+                    new NetworkInterceptor(driver, filter(policy, URI.create(Config.baseUrl()).getHost()))));
+        } catch (RuntimeException e) {
+            System.out.println("Network policy not applied: " + String.valueOf(e.getMessage()).lines().findFirst().orElse(""));
+        }
+    }
+
+    public static void stop() {
+        Interception interception = active.get();
+        active.remove();
+        if (interception != null) {
+            try {
+                interception.interceptor().close();
+                interception.devTools().disconnectSession();
+            } catch (RuntimeException e) {
+                System.out.println("Failed to remove network interceptor: " + e.getMessage());
+            }
+        }
+    }
+
+    public static String stats() {
+        StringJoiner byType = new StringJoiner(", ", " (", ")").setEmptyValue("");
+        new TreeMap<>(blockedByType).forEach((kind, count) -> byType.add(kind + " " + count.get()));
+        return String.format("Network: %d requests intercepted, %d blocked%s, %d served from the asset cache (%.1f KB), "
+                        + "%d fetched into it (%.1f KB)",
+                intercepted.get(), blocked.get(), byType, cacheHits.get(), bytesServed.get() / 1024.0,
+                cacheMisses.get(), bytesFetched.get() / 1024.0);
+    }
+
+    static Filter filter(NetworkPolicy policy, String appHost) {
+        List<ResourceType> blockTypes = List.of(policy.block());
+        List<ResourceType> cacheTypes = List.of(policy.cache());
+        List<String> blockUrls = List.of(policy.blockUrls());
+
+        return next -> request -> {
+            intercepted.incrementAndGet();
+            String url = request.getUri();
+            Optional<URI> parsed = parse(url);
+            if (parsed.isEmpty()) {
+                return NetworkInterceptor.PROCEED_WITH_REQUEST;
+            }
+            URI uri = parsed.get();
+            Optional<ResourceType> type = ResourceType.of(uri);
+
+            boolean thirdParty = uri.getHost() != null && !uri.getHost().equalsIgnoreCase(appHost);
+            if ((type.isPresent() && blockTypes.contains(type.get()))
+                    || (policy.blockThirdParty() && thirdParty)
+                    || blockUrls.stream().anyMatch(url::contains)) {
+                blocked.incrementAndGet();
+                String kind = type.map(t -> t.name().toLowerCase(Locale.ROOT)).orElse(thirdParty ? "third-party" : "url");
+                blockedByType.computeIfAbsent(kind, k -> new AtomicLong()).incrementAndGet();
+                return new HttpResponse().setStatus(204);
+            }
+
+            if (request.getMethod() != HttpMethod.GET || type.isEmpty() || !cacheTypes.contains(type.get())) {
+                return NetworkInterceptor.PROCEED_WITH_REQUEST;
+            }
+            Optional<AssetCache.Asset> cached = Holder.cache.get(url);
+            if (cached.isPresent()) {
+                cacheHits.incrementAndGet();
+                bytesServed.addAndGet(cached.get().body().length);
+                return new HttpResponse()
+                        .setStatus(200)
+                        .setHeader("Content-Type", cached.get().contentType())
+                        .setContent(Contents.bytes(cached.get().body()));
+            }
+
+            HttpResponse response = next.execute(request);
+            if (response.getStatus() == 200 && cacheable(response)) {
+                byte[] body = Contents.bytes(response.getContent());
+                String contentType = Optional.ofNullable(response.getHeader("Content-Type")).orElse("application/octet-stream");
+                Holder.cache.put(url, new AssetCache.Asset(contentType, body));
+                cacheMisses.incrementAndGet();
+                bytesFetched.addAndGet(body.length);
+                response.setContent(Contents.bytes(body));
+            }
+            return response;
+        };
+    }
+
+    // The asset cache never revalidates and ignores request headers, so only responses that allow being stored
+    // and reused as they are qualify: no no-store, no-cache, private or max-age=0, and no Vary beyond encoding
+    static boolean cacheable(HttpResponse response) {
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl == null) {
+            String pragma = response.getHeader("Pragma");
+            if (pragma != null && pragma.toLowerCase(Locale.ROOT).contains("no-cache")) {
+                return false;
+            }
+        } else {
+            for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+                String name = directive.trim();
+                if (name.startsWith("no-store") || name.startsWith("no-cache") || name.startsWith("private")
+                        || name.replace(" ", "").equals("max-age=0")) {
+                    return false;
+                }
+            }
+        }
+        String vary = response.getHeader("Vary");
+        if (vary != null) {
+            for (String header : vary.split(",")) {
+                if (!header.isBlank() && !header.trim().equalsIgnoreCase("Accept-Encoding")) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Browsers send URLs that java.net.URI rejects (e.g. unescaped characters in third-party tracker queries).
+    // An exception here would escape into the DevTools event handler, so such requests just go through.
+    private static Optional<URI> parse(String url) {
+        try {
+            return Optional.of(new URI(url));
+        } catch (URISyntaxException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isEmpty(NetworkPolicy policy) {
+        return policy.block().length == 0 && policy.blockUrls().length == 0 && !policy.blockThirdParty()
+                && policy.cache().length == 0;
+    }
+}
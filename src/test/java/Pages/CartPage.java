@@ -2,17 +2,21 @@ package Pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
 public class CartPage {
     private WebDriver driver;
+    private final ElementCache elements;
 
     private By checkoutButton = By.id("checkout");
 
     public CartPage(WebDriver driver) {
         this.driver = driver;
+        this.elements = new ElementCache(driver);
     }
 
     public void clickCheckout() {
-        driver.findElement(checkoutButton).click();
+        elements.act(checkoutButton, WebElement::click);
+        elements.navigated();
     }
 }
\ No newline at end of file
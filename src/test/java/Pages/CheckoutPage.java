@@ -2,33 +2,59 @@ package Pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class CheckoutPage {
     private WebDriver driver;
+    private final ElementCache elements;
 
-    private By firstNameField = By.id("first-name");
-    private By lastNameField = By.id("last-name");
-    private By postalCodeField = By.id("postal-code");
-    private By continueButton = By.id("continue");
+    private String firstNameId = "first-name";
+    private String lastNameId = "last-name";
+    private String postalCodeId = "postal-code";
+    private String continueButtonId = "continue";
+    private By firstNameField = By.id(firstNameId);
+    private By lastNameField = By.id(lastNameId);
+    private By postalCodeField = By.id(postalCodeId);
+    private By continueButton = By.id(continueButtonId);
     private By finishButton = By.id("finish");
     private By confirmationMessage = By.className("complete-header");
 
     public CheckoutPage(WebDriver driver) {
         this.driver = driver;
+        this.elements = new ElementCache(driver);
     }
 
     public void fillCheckoutInfo(String firstName, String lastName, String postalCode) {
-        driver.findElement(firstNameField).sendKeys(firstName);
-        driver.findElement(lastNameField).sendKeys(lastName);
-        driver.findElement(postalCodeField).sendKeys(postalCode);
-        driver.findElement(continueButton).click();
+        fillCheckoutInfo(firstName, lastName, postalCode, InputMode.configured());
+    }
+
+    // Typed input appends to whatever the fields hold, batched input replaces it
+    public void fillCheckoutInfo(String firstName, String lastName, String postalCode, InputMode mode) {
+        if (mode == InputMode.BATCHED) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put(firstNameId, firstName);
+            fields.put(lastNameId, lastName);
+            fields.put(postalCodeId, postalCode);
+            FormFill.submit(driver, fields, continueButtonId);
+            elements.navigated();
+            return;
+        }
+        elements.act(firstNameField, field -> field.sendKeys(firstName));
+        elements.act(lastNameField, field -> field.sendKeys(lastName));
+        elements.act(postalCodeField, field -> field.sendKeys(postalCode));
+        elements.act(continueButton, WebElement::click);
+        elements.navigated();
     }
 
     public void finishCheckout() {
-        driver.findElement(finishButton).click();
+        elements.act(finishButton, WebElement::click);
+        elements.navigated();
     }
 
     public String getConfirmationMessage() {
-        return driver.findElement(confirmationMessage).getText();
+        return elements.read(confirmationMessage, WebElement::getText);
     }
 }
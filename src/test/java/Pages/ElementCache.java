@@ -0,0 +1,76 @@
+package Pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Resolved element references for one page-object instance, so repeated interactions with the same locator
+// pay the findElement round trip once. A page object lives on one test thread, so the map is not synchronized.
+// Cached references are dropped when the page object navigates away, and a reference that went stale anyway
+// (re-render, or a navigation the page object did not cause) is re-resolved once and the action retried.
+public class ElementCache {
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong staleRecoveries = new AtomicLong();
+    private static final AtomicLong invalidations = new AtomicLong();
+
+    private final WebDriver driver;
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public WebElement find(By locator) {
+        WebElement element = elements.get(locator);
+        if (element != null) {
+            hits.incrementAndGet();
+            return element;
+        }
+        misses.incrementAndGet();
+        element = driver.findElement(locator);
+        elements.put(locator, element);
+        return element;
+    }
+
+    public void act(By locator, Consumer<WebElement> action) {
+        read(locator, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    // A stale reference fails before the command has any effect in the page, so retrying is safe
+    public <T> T read(By locator, Function<WebElement, T> query) {
+        try {
+            return query.apply(find(locator));
+        } catch (StaleElementReferenceException e) {
+            staleRecoveries.incrementAndGet();
+            elements.remove(locator);
+            return query.apply(find(locator));
+        }
+    }
+
+    // Called by page objects after an action that leaves the current document
+    public void navigated() {
+        if (!elements.isEmpty()) {
+            invalidations.incrementAndGet();
+            elements.clear();
+        }
+    }
+
+    public static String stats() {
+        long total = hits.get() + misses.get();
+        return String.format("Element cache: %d lookups, %d hits, %d misses (%.1f%% hit rate), %d stale re-resolved, %d dropped on navigation",
+                total, hits.get(), misses.get(), total == 0 ? 0 : 100.0 * hits.get() / total,
+                staleRecoveries.get(), invalidations.get());
+    }
+}
@@ -0,0 +1,40 @@
+package Pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+
+// Fills a form and submits it in a single executeScript instead of a clear, sendKeys and click per field.
+// Assigning input.value directly is invisible to React, which tracks the last value it saw, so the value
+// goes through the prototype's native setter and is followed by bubbling input and change events.
+public final class FormFill {
+
+    private static final String SCRIPT = ""
+            + "const fields = arguments[0], submitId = arguments[1];"
+            + "const missing = Object.keys(fields).concat([submitId]).filter(id => !document.getElementById(id));"
+            + "if (missing.length) { return missing; }"
+            + "for (const [id, value] of Object.entries(fields)) {"
+            + "  const input = document.getElementById(id);"
+            + "  const setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(input), 'value').set;"
+            + "  setter.call(input, value);"
+            + "  input.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  input.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "}"
+            + "document.getElementById(submitId).click();"
+            + "return [];";
+
+    private FormFill() {
+    }
+
+    // Fields by element id, filled in map order; nothing is touched when any of the ids is missing
+    @SuppressWarnings("unchecked")
+    public static void submit(WebDriver driver, Map<String, String> fields, String submitId) {
+        List<String> missing = (List<String>) ((JavascriptExecutor) driver).executeScript(SCRIPT, fields, submitId);
+        if (!missing.isEmpty()) {
+            throw new NoSuchElementException("Form elements not found: #" + String.join(", #", missing));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package Pages;
+
+import Base.Config;
+
+public enum InputMode {
+    // Values set through the native setter plus input/change events, and the submit click, in one script
+    BATCHED,
+    // clear/sendKeys per field and a separate click, for tests about typing itself
+    TYPED;
+
+    public static InputMode configured() {
+        return valueOf(Config.formInput().trim().toUpperCase());
+    }
+}
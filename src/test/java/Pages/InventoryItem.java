@@ -0,0 +1,14 @@
+package Pages;
+
+// One product card as rendered on the inventory page; a field is null when the card lacks that element
+public record InventoryItem(String name, String description, String priceText, String imageSrc,
+                            String buttonId, String buttonLabel) {
+
+    public double price() {
+        return Double.parseDouble(priceText.replace("$", "").trim());
+    }
+
+    public boolean inCart() {
+        return buttonId != null && buttonId.startsWith("remove-");
+    }
+}
@@ -1,49 +1,97 @@
 package Pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class InventoryPage {
     private WebDriver driver;
+    private final ElementCache elements;
 
     private By addToCartButton = By.id("add-to-cart-sauce-labs-backpack");
     private By cartIcon = By.className("shopping_cart_link");
     private By cartBadge = By.className("shopping_cart_badge");
 
+    // Texts are innerText as rendered, untrimmed, so checks for stray whitespace still see it; callers trim
+    // where they compare content. The src property matches what getAttribute("src") returns.
+    static final String ITEMS_EXPRESSION = ""
+            + "Array.from(document.querySelectorAll('.inventory_item')).map(item => {"
+            + "  const text = selector => { const el = item.querySelector(selector); return el ? el.innerText : null; };"
+            + "  const image = item.querySelector('img');"
+            + "  const button = item.querySelector('button');"
+            + "  return {"
+            + "    name: text('.inventory_item_name'),"
+            + "    description: text('.inventory_item_desc'),"
+            + "    price: text('.inventory_item_price'),"
+            + "    imageSrc: image ? image.src : null,"
+            + "    buttonId: button ? button.id : null,"
+            + "    buttonLabel: button ? button.innerText : null"
+            + "  };"
+            + "})";
+
     public InventoryPage(WebDriver driver) {
         this.driver = driver;
+        this.elements = new ElementCache(driver);
     }
 
     public void addItemToCart() {
-        driver.findElement(addToCartButton).click();
+        elements.act(addToCartButton, WebElement::click);
+    }
+
+    // Adds the first count products that are not in the cart yet, in page order
+    public void addItemsToCart(int count) {
+        snapshot().stream()
+                .filter(item -> item.buttonId() != null && !item.inCart())
+                .limit(count)
+                .forEach(item -> elements.act(By.id(item.buttonId()), WebElement::click));
     }
 
     public void goToCart() {
-        driver.findElement(cartIcon).click();
+        elements.act(cartIcon, WebElement::click);
+        elements.navigated();
     }
 
     public String getCartBadgeCount() {
-        return driver.findElement(cartBadge).getText();
+        return elements.read(cartBadge, WebElement::getText);
+    }
+
+    // Every product card in one script execution instead of a findElements plus a getText per element
+    @SuppressWarnings("unchecked")
+    public List<InventoryItem> snapshot() {
+        return toItems((List<Map<String, String>>) ((JavascriptExecutor) driver).executeScript("return " + ITEMS_EXPRESSION + ";"));
+    }
+
+    // Read-only checks share one extracted snapshot per persona, page and sort order until the DOM changes
+    public List<InventoryItem> cachedSnapshot(String persona) {
+        return SnapshotCache.inventory(driver, persona);
+    }
+
+    static List<InventoryItem> toItems(List<Map<String, String>> rows) {
+        List<InventoryItem> items = new ArrayList<>(rows.size());
+        for (Map<String, String> row : rows) {
+            items.add(new InventoryItem(row.get("name"), row.get("description"), row.get("price"),
+                    row.get("imageSrc"), row.get("buttonId"), row.get("buttonLabel")));
+        }
+        return List.copyOf(items);
     }
 
     public List<String> getAllItemTitles() {
-        List<WebElement> titleElements = driver.findElements(By.className("inventory_item_name"));
         List<String> titles = new ArrayList<>();
-        for (WebElement element : titleElements) {
-            titles.add(element.getText());
+        for (InventoryItem item : snapshot()) {
+            titles.add(item.name());
         }
         return titles;
     }
 
     public List<String> getAllItemDescriptions() {
-        List<WebElement> descElements = driver.findElements(By.className("inventory_item_desc"));
         List<String> descriptions = new ArrayList<>();
-        for (WebElement element : descElements) {
-            descriptions.add(element.getText());
+        for (InventoryItem item : snapshot()) {
+            descriptions.add(item.description());
         }
         return descriptions;
     }
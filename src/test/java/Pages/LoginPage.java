@@ -1,29 +1,65 @@
 package Pages;
 
+import Session.SessionCache;
+import Session.SharedSessions;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class LoginPage {
     private WebDriver driver;
+    private final ElementCache elements;
 
-    private By username = By.id("user-name");
-    private By password = By.id("password");
-    private By loginButton = By.id("login-button");
+    private String usernameId = "user-name";
+    private String passwordId = "password";
+    private String loginButtonId = "login-button";
+    private By username = By.id(usernameId);
+    private By password = By.id(passwordId);
+    private By loginButton = By.id(loginButtonId);
     private By errorMessage = By.cssSelector("[data-test='error']");
 
     public LoginPage(WebDriver driver) {
         this.driver = driver;
+        this.elements = new ElementCache(driver);
     }
 
     public void login(String user, String pass) {
-        driver.findElement(username).clear();
-        driver.findElement(username).sendKeys(user);
-        driver.findElement(password).clear();
-        driver.findElement(password).sendKeys(pass);
-        driver.findElement(loginButton).click();
+        login(user, pass, InputMode.configured());
+    }
+
+    public void login(String user, String pass, InputMode mode) {
+        if (mode == InputMode.BATCHED) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put(usernameId, user);
+            fields.put(passwordId, pass);
+            FormFill.submit(driver, fields, loginButtonId);
+            elements.navigated();
+            return;
+        }
+        elements.act(username, WebElement::clear);
+        elements.act(username, field -> field.sendKeys(user));
+        elements.act(password, WebElement::clear);
+        elements.act(password, field -> field.sendKeys(pass));
+        elements.act(loginButton, WebElement::click);
+        elements.navigated();
+    }
+
+    // Reuses the persona's session captured on its first UI login; falls back to the form otherwise
+    public void loginFast(String user, String pass) {
+        // A read-only test on a shared session starts logged in as its persona, on the page it reads
+        if (SharedSessions.reusing(user)) {
+            return;
+        }
+        if (!SessionCache.restore(driver, user, pass)) {
+            login(user, pass, InputMode.BATCHED);
+            SessionCache.capture(driver, user, pass);
+        }
     }
 
     public String getErrorMessage() {
-        return driver.findElement(errorMessage).getText();
+        return elements.read(errorMessage, WebElement::getText);
     }
 }
\ No newline at end of file
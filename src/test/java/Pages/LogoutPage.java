@@ -1,25 +1,27 @@
 package Pages;
 
+import Waits.Conditions;
+import Waits.WaitEngine;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
 public class LogoutPage {
     private WebDriver driver;
+    private final ElementCache elements;
 
     private By menuButton = By.id("react-burger-menu-btn");
     private By logoutLink = By.id("logout_sidebar_link");
 
     public LogoutPage(WebDriver driver) {
         this.driver = driver;
+        this.elements = new ElementCache(driver);
     }
 
     public void logout() {
-        driver.findElement(menuButton).click();
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        driver.findElement(logoutLink).click();
+        elements.act(menuButton, WebElement::click);
+        WaitEngine.until(driver, Conditions.menuOpen());
+        elements.act(logoutLink, WebElement::click);
+        elements.navigated();
     }
 }
@@ -0,0 +1,27 @@
+package Pages;
+
+// The catalogue with the ids the app stores in the "cart-contents" localStorage key
+public enum Product {
+    BACKPACK(4, "Sauce Labs Backpack"),
+    BIKE_LIGHT(0, "Sauce Labs Bike Light"),
+    BOLT_T_SHIRT(1, "Sauce Labs Bolt T-Shirt"),
+    FLEECE_JACKET(5, "Sauce Labs Fleece Jacket"),
+    ONESIE(2, "Sauce Labs Onesie"),
+    RED_T_SHIRT(3, "Test.allTheThings() T-Shirt (Red)");
+
+    private final int id;
+    private final String title;
+
+    Product(int id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public String title() {
+        return title;
+    }
+}
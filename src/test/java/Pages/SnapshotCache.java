@@ -0,0 +1,106 @@
+package Pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class SnapshotCache {
+
+    // One round trip either way: the page compares its own fingerprint against the candidates we already hold
+    // and only sends the grid back when none of them matches. The fingerprint includes a hash of the extracted
+    // items, so another browser's or persona's render only matches when its titles, prices, images and buttons
+    // are the same. The grid is extracted and hashed on the first lookup in a document and again after any
+    // mutation; in between, the MutationObserver vouches that the hash still describes the DOM.
+    private static final String SCRIPT = ""
+            + "const candidates = arguments[0];"
+            + "const hash = text => {"
+            + "  let h1 = 0xdeadbeef, h2 = 0x41c6ce57;"
+            + "  for (let i = 0; i < text.length; i++) {"
+            + "    const c = text.charCodeAt(i);"
+            + "    h1 = Math.imul(h1 ^ c, 2654435761);"
+            + "    h2 = Math.imul(h2 ^ c, 1597334677);"
+            + "  }"
+            + "  h1 = Math.imul(h1 ^ (h1 >>> 16), 2246822507) ^ Math.imul(h2 ^ (h2 >>> 13), 3266489909);"
+            + "  h2 = Math.imul(h2 ^ (h2 >>> 16), 2246822507) ^ Math.imul(h1 ^ (h1 >>> 13), 3266489909);"
+            + "  return (4294967296 * (2097151 & h2) + (h1 >>> 0)).toString(36);"
+            + "};"
+            + "let watch = window.__snapshotWatch;"
+            + "if (!watch) {"
+            + "  watch = window.__snapshotWatch = {mutations: 0, hash: null};"
+            + "  new MutationObserver(records => { watch.mutations += records.length; })"
+            + "      .observe(document.documentElement, {subtree: true, childList: true, attributes: true, characterData: true});"
+            + "}"
+            + "let items = null;"
+            + "if (watch.hash === null || watch.mutations !== 0) {"
+            + "  items = " + InventoryPage.ITEMS_EXPRESSION + ";"
+            + "  watch.hash = hash(JSON.stringify(items));"
+            + "  watch.mutations = 0;"
+            + "}"
+            + "const select = document.querySelector('.product_sort_container');"
+            + "const page = window.location.pathname;"
+            + "const sort = select ? select.value : '';"
+            + "const fingerprint = [page, sort, window.localStorage.getItem('cart-contents') || '', watch.hash].join('|');"
+            + "if (candidates.includes(fingerprint)) {"
+            + "  return {page: page, sort: sort, fingerprint: fingerprint, hit: true};"
+            + "}"
+            + "if (items === null) {"
+            + "  items = " + InventoryPage.ITEMS_EXPRESSION + ";"
+            + "}"
+            + "return {page: page, sort: sort, fingerprint: fingerprint, hit: false, items: items};";
+
+    private record Key(String persona, String page, String sort) {
+    }
+
+    private record Entry(String fingerprint, List<InventoryItem> items) {
+    }
+
+    private static final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private SnapshotCache() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<InventoryItem> inventory(WebDriver driver, String persona) {
+        List<String> candidates = new ArrayList<>();
+        cache.forEach((key, entry) -> {
+            if (key.persona().equals(persona)) {
+                candidates.add(entry.fingerprint());
+            }
+        });
+
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(SCRIPT, candidates);
+        Key key = new Key(persona, (String) result.get("page"), (String) result.get("sort"));
+        String fingerprint = (String) result.get("fingerprint");
+
+        if (Boolean.TRUE.equals(result.get("hit"))) {
+            Entry entry = cache.get(key);
+            if (entry != null && entry.fingerprint().equals(fingerprint)) {
+                hits.incrementAndGet();
+                return entry.items();
+            }
+        }
+
+        misses.incrementAndGet();
+        List<InventoryItem> items = InventoryPage.toItems((List<Map<String, String>>) result.get("items"));
+        cache.put(key, new Entry(fingerprint, items));
+        return items;
+    }
+
+    public static void clear() {
+        cache.clear();
+    }
+
+    public static String stats() {
+        long total = hits.get() + misses.get();
+        return String.format("Snapshot cache: %d lookups, %d hits, %d misses (%.1f%% hit rate)",
+                total, hits.get(), misses.get(), total == 0 ? 0 : 100.0 * hits.get() / total);
+    }
+}
@@ -0,0 +1,104 @@
+package Perf;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Suite-wide and per-test aggregation of WebDriver command latencies recorded by CommandTimer
+public final class CommandStats {
+
+    static final String TEST_CODE = "(test code)";
+
+    private static final Map<String, LatencyHistogram> byCommand = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byPageMethod = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byLocator = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byTest = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<TestRecording> currentTest = new ThreadLocal<>();
+
+    private CommandStats() {
+    }
+
+    private static final class TestRecording {
+        final String name;
+        final Map<String, long[]> pageMethods = new HashMap<>();
+        long commands;
+        long nanos;
+
+        TestRecording(String name) {
+            this.name = name;
+        }
+    }
+
+    public static void startTest(String testName) {
+        currentTest.set(new TestRecording(testName));
+    }
+
+    // One line per test: command count, time spent in WebDriver and the page-object methods that dominated it
+    public static String finishTest() {
+        TestRecording test = currentTest.get();
+        currentTest.remove();
+        if (test == null) {
+            return null;
+        }
+
+        List<Map.Entry<String, long[]>> top = new ArrayList<>(test.pageMethods.entrySet());
+        top.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1]).reversed());
+        StringBuilder line = new StringBuilder(String.format("[commands] %s: %d commands, %.0f ms",
+                test.name, test.commands, test.nanos / 1_000_000.0));
+        for (int i = 0; i < Math.min(3, top.size()); i++) {
+            Map.Entry<String, long[]> entry = top.get(i);
+            line.append(String.format(" | %s %dx %.0f ms", entry.getKey(), entry.getValue()[0], entry.getValue()[1] / 1_000_000.0));
+        }
+        return line.toString();
+    }
+
+    static void record(String command, String pageMethod, String locator, long nanos) {
+        histogram(byCommand, command).record(nanos);
+        histogram(byPageMethod, pageMethod).record(nanos);
+        if (locator != null) {
+            histogram(byLocator, command + " " + locator).record(nanos);
+        }
+
+        TestRecording test = currentTest.get();
+        if (test != null) {
+            histogram(byTest, test.name).record(nanos);
+            test.commands++;
+            test.nanos += nanos;
+            long[] totals = test.pageMethods.computeIfAbsent(pageMethod, k -> new long[2]);
+            totals[0]++;
+            totals[1] += nanos;
+        }
+    }
+
+    public static String report() {
+        StringBuilder report = new StringBuilder("WebDriver command latency");
+        section(report, "by command", byCommand, 20);
+        section(report, "by page-object method", byPageMethod, 20);
+        section(report, "by locator", byLocator, 20);
+        section(report, "by test (slowest)", byTest, 15);
+        return report.toString();
+    }
+
+    public static void reset() {
+        byCommand.clear();
+        byPageMethod.clear();
+        byLocator.clear();
+        byTest.clear();
+    }
+
+    private static void section(StringBuilder report, String title, Map<String, LatencyHistogram> histograms, int limit) {
+        report.append(String.format("%n  %s:", title));
+        histograms.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, LatencyHistogram> e) -> e.getValue().totalMillis()).reversed())
+                .limit(limit)
+                .forEach(e -> report.append(String.format("%n    %-60s %s", e.getKey(), e.getValue().summary())));
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String key) {
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+}
@@ -0,0 +1,118 @@
+package Perf;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// Times every call made through a decorated driver and tags it with the page-object method that issued it
+// and, for element lookups and element commands, the locator the element came from
+public class CommandTimer implements WebDriverListener {
+
+    private static final CommandTimer INSTANCE = new CommandTimer();
+
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<WebElement, String> locators = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private CommandTimer() {
+    }
+
+    public static WebDriver instrument(WebDriver driver) {
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method, args);
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        locators.put(result, locator.toString());
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        String description = locator.toString();
+        for (WebElement element : result) {
+            locators.put(element, description);
+        }
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        locators.put(result, locator.toString());
+    }
+
+    private void finish(Object target, Method method, Object[] args) {
+        Long start = starts.get().poll();
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        CommandStats.record(method.getName(), pageMethod(), locatorOf(target, args), elapsed);
+    }
+
+    private String locatorOf(Object target, Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof By by) {
+                    return by.toString();
+                }
+            }
+        }
+        if (target instanceof WebElement element) {
+            return locators.get(element);
+        }
+        return null;
+    }
+
+    // The page-object method on the stack wins; otherwise the first suite helper (session injection, waits,
+    // pool resets, ...) that issued the call, and finally the test body itself
+    private static String pageMethod() {
+        return STACK.walk(frames -> {
+            String helper = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (className.startsWith("Pages.")) {
+                    return className.substring("Pages.".length()) + "." + frame.getMethodName();
+                }
+                if (helper == null && isSuiteHelper(className)) {
+                    helper = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                }
+            }
+            return helper != null ? helper : CommandStats.TEST_CODE;
+        });
+    }
+
+    // The suite's own packages are the capitalized ones (Base, Session, Waits, ...)
+    private static boolean isSuiteHelper(String className) {
+        return !className.startsWith("Perf.")
+                && !className.startsWith("Tests.")
+                && !className.equals("Base.DriverManager")
+                && className.indexOf('.') > 0
+                && Character.isUpperCase(className.charAt(0));
+    }
+}
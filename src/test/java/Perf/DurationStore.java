@@ -0,0 +1,136 @@
+package Perf;
+
+import Base.Config;
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Test durations remembered across runs, one line per test method and one per data-provider row:
+//   Tests.InventoryTest.testSortByPriceLowToHigh<TAB>3012.4<TAB>6
+//   Tests.InventoryTest.testInventoryLoads[standard_user, true]<TAB>1480.0<TAB>6
+// Values are smoothed so one slow run does not reorder the suite on its own. The method line of a data-driven
+// test is the sum of its row lines, so a run of only some rows (one shard, a persona filter) does not shrink it.
+public class DurationStore {
+
+    public record Estimate(double millis, int runs) {
+    }
+
+    private static final double WEIGHT_OF_NEW_RUN = 0.3;
+
+    private static volatile DurationStore shared;
+
+    private final Path file;
+    private final Map<String, Estimate> estimates = new ConcurrentHashMap<>();
+    // Durations measured in this run, summed per key; data-driven methods are only measured per row
+    private final Map<String, Double> measured = new ConcurrentHashMap<>();
+    private final Set<String> dataDrivenMethods = ConcurrentHashMap.newKeySet();
+
+    public DurationStore(Path file) {
+        this.file = file;
+        load();
+    }
+
+    public static DurationStore shared() {
+        DurationStore instance = shared;
+        if (instance == null) {
+            synchronized (DurationStore.class) {
+                instance = shared;
+                if (instance == null) {
+                    instance = new DurationStore(Config.durationsFile());
+                    shared = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static String methodKey(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+
+    public static String rowKey(ITestNGMethod method, Object[] parameters) {
+        return parameters == null || parameters.length == 0
+                ? methodKey(method)
+                : methodKey(method) + Arrays.deepToString(parameters);
+    }
+
+    public OptionalDouble estimate(String key) {
+        Estimate estimate = estimates.get(key);
+        return estimate == null ? OptionalDouble.empty() : OptionalDouble.of(estimate.millis());
+    }
+
+    public Map<String, Estimate> all() {
+        return Map.copyOf(estimates);
+    }
+
+    public void record(ITestNGMethod method, Object[] parameters, long millis) {
+        record(methodKey(method), rowKey(method, parameters), millis);
+    }
+
+    public void record(String methodKey, String rowKey, long millis) {
+        measured.merge(rowKey, (double) millis, Double::sum);
+        if (!rowKey.equals(methodKey)) {
+            dataDrivenMethods.add(methodKey);
+        }
+    }
+
+    // Folds this run's measurements into the estimates and rewrites the file
+    public synchronized void save() {
+        measured.forEach((key, millis) -> estimates.merge(key, new Estimate(millis, 1), (old, now) ->
+                new Estimate(old.millis() * (1 - WEIGHT_OF_NEW_RUN) + now.millis() * WEIGHT_OF_NEW_RUN, old.runs() + 1)));
+        measured.clear();
+        for (String methodKey : dataDrivenMethods) {
+            String rowPrefix = methodKey + "[";
+            double rows = estimates.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(rowPrefix))
+                    .mapToDouble(entry -> entry.getValue().millis())
+                    .sum();
+            estimates.merge(methodKey, new Estimate(rows, 1), (old, now) -> new Estimate(now.millis(), old.runs() + 1));
+        }
+        dataDrivenMethods.clear();
+
+        List<String> lines = new ArrayList<>();
+        new TreeMap<>(estimates).forEach((key, estimate) ->
+                lines.add(key + "\t" + String.format(Locale.ROOT, "%.1f", estimate.millis()) + "\t" + estimate.runs()));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write test durations to " + file, e);
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t");
+                if (fields.length == 3 && !line.startsWith("#")) {
+                    estimates.put(fields[0], new Estimate(Double.parseDouble(fields[1]), Integer.parseInt(fields[2])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Ignoring unreadable test durations in " + file + ": " + e.getMessage());
+            estimates.clear();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package Perf;
+
+import java.util.Map;
+
+public record PageTiming(boolean navigation, Map<TimingMetric, Double> metrics) {
+
+    // NaN when the browser did not report the metric (e.g. TTFB of a same-document transition)
+    public double get(TimingMetric metric) {
+        return metrics.getOrDefault(metric, Double.NaN);
+    }
+}
@@ -0,0 +1,119 @@
+package Perf;
+
+import Waits.WaitEngine;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Reads the browser's own Navigation Timing, Paint Timing, Largest Contentful Paint and Long Task entries
+// for whatever page the action ends on, so WebDriver round trips and typing time are not part of the numbers
+public final class PageTimings {
+
+    // Marks the current document so a navigation can be told apart from a same-document transition, and
+    // records the last submitting input, DOM updates and long tasks for the latter
+    private static final String ARM = ""
+            + "const state = window.__pageTiming = {armedAt: performance.now(), input: null, lastMutation: null, blocking: 0};"
+            + "const onInput = (e) => { state.input = e.timeStamp; };"
+            + "['click', 'submit'].forEach(t => document.addEventListener(t, onInput, true));"
+            + "document.addEventListener('keydown', (e) => { if (e.key === 'Enter') onInput(e); }, true);"
+            + "new MutationObserver(() => { state.lastMutation = performance.now(); })"
+            + "  .observe(document.documentElement, {subtree: true, childList: true, attributes: true, characterData: true});"
+            + "try {"
+            + "  new PerformanceObserver((list) => list.getEntries().forEach(e => { state.blocking += Math.max(0, e.duration - 50); }))"
+            + "    .observe({type: 'longtask'});"
+            + "} catch (e) { }"
+            + "return performance.timeOrigin;";
+
+    private static final String COLLECT = ""
+            + "const done = arguments[arguments.length - 1];"
+            + "const armedOrigin = arguments[0];"
+            + "const quietMs = arguments[1];"
+            + "const timeoutMs = arguments[2];"
+            + "const started = performance.now();"
+            + "const state = window.__pageTiming;"
+            + "const navigated = !state || Math.abs(performance.timeOrigin - armedOrigin) > 1;"
+            + "const expired = () => performance.now() - started > timeoutMs;"
+            + "const poll = (ready) => new Promise((resolve) => {"
+            + "  const check = () => { if (ready() || expired()) resolve(); else setTimeout(check, 10); };"
+            + "  check();"
+            + "});"
+            + "const buffered = (type, onEntry) => new Promise((resolve) => {"
+            + "  try {"
+            + "    const observer = new PerformanceObserver((list) => list.getEntries().forEach(onEntry));"
+            + "    observer.observe({type: type, buffered: true});"
+            + "    setTimeout(() => { observer.takeRecords().forEach(onEntry); observer.disconnect(); resolve(); }, 50);"
+            + "  } catch (e) { resolve(); }"
+            + "});"
+            + "const nextFrame = () => new Promise((resolve) => requestAnimationFrame(() => setTimeout(resolve, 0)));"
+            + "if (navigated) {"
+            + "  const entry = () => performance.getEntriesByType('navigation')[0];"
+            + "  poll(() => entry() && entry().loadEventEnd > 0).then(nextFrame).then(async () => {"
+            + "    const nav = entry();"
+            + "    const result = {navigation: true, blockingTime: 0};"
+            + "    if (nav) {"
+            + "      result.ttfb = nav.responseStart;"
+            + "      result.domContentLoaded = nav.domContentLoadedEventEnd;"
+            + "      result.load = nav.loadEventEnd;"
+            + "    }"
+            + "    performance.getEntriesByType('paint').forEach(p => { if (p.name === 'first-contentful-paint') result.fcp = p.startTime; });"
+            + "    await buffered('largest-contentful-paint', e => { result.lcp = e.renderTime || e.startTime; });"
+            + "    await buffered('longtask', e => { result.blockingTime += Math.max(0, e.duration - 50); });"
+            + "    done(result);"
+            + "  });"
+            + "} else {"
+            + "  const lastActivity = () => Math.max(state.lastMutation || 0, state.input || 0, state.armedAt);"
+            + "  poll(() => performance.now() - lastActivity() >= quietMs).then(() => {"
+            + "    const start = state.input === null ? state.armedAt : state.input;"
+            + "    const rendered = Math.max(0, (state.lastMutation || start) - start);"
+            + "    done({navigation: false, domContentLoaded: rendered, load: rendered, fcp: rendered, lcp: rendered,"
+            + "      blockingTime: state.blocking});"
+            + "  });"
+            + "}";
+
+    // A same-document transition is considered rendered once the DOM has been quiet this long
+    private static final long QUIET_MS = 100;
+
+    private PageTimings() {
+    }
+
+    public static PageTiming measure(WebDriver driver, Runnable action) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object armedOrigin = js.executeScript(ARM);
+        action.run();
+
+        // One deadline for the whole collection, however often a redirect or reload restarts it
+        Duration timeout = WaitEngine.defaultTimeout();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long remainingMs = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (remainingMs <= 0) {
+                throw new TimeoutException("Timed out after " + timeout.toMillis() + " ms collecting page timings");
+            }
+            try {
+                return toTiming(js.executeAsyncScript(COLLECT, armedOrigin, QUIET_MS, remainingMs));
+            } catch (WebDriverException e) {
+                // The action's navigation committed while collecting from the old document; read the new one
+                if (!WaitEngine.isDocumentUnload(e)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PageTiming toTiming(Object raw) {
+        Map<String, Object> values = (Map<String, Object>) raw;
+        Map<TimingMetric, Double> metrics = new EnumMap<>(TimingMetric.class);
+        for (TimingMetric metric : TimingMetric.values()) {
+            if (values.get(metric.key()) instanceof Number number) {
+                metrics.put(metric, number.doubleValue());
+            }
+        }
+        return new PageTiming(Boolean.TRUE.equals(values.get("navigation")), metrics);
+    }
+}
@@ -0,0 +1,109 @@
+package Perf;
+
+import Base.Config;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Repeats a page-object action and asserts p50/p95 of its page timings against a budget, e.g.
+//   PerformanceBudget.of("login as standard_user")
+//           .limit(TimingMetric.LARGEST_CONTENTFUL_PAINT, 1000, 2000)
+//           .verify(driver, () -> driver.get(Config.baseUrl()), () -> loginPage.login(user, pass));
+public class PerformanceBudget {
+
+    private final String name;
+    private final Map<TimingMetric, double[]> limits = new EnumMap<>(TimingMetric.class);
+    private int runs = Config.budgetRuns();
+    private int warmups = Config.budgetWarmups();
+
+    private PerformanceBudget(String name) {
+        this.name = name;
+    }
+
+    public static PerformanceBudget of(String name) {
+        return new PerformanceBudget(name);
+    }
+
+    public PerformanceBudget runs(int runs) {
+        this.runs = runs;
+        return this;
+    }
+
+    public PerformanceBudget warmups(int warmups) {
+        this.warmups = warmups;
+        return this;
+    }
+
+    public PerformanceBudget limit(TimingMetric metric, double p50Millis, double p95Millis) {
+        limits.put(metric, new double[] {p50Millis, p95Millis});
+        return this;
+    }
+
+    // arrange runs before every sample and is not measured; warm-up samples are discarded
+    public List<PageTiming> verify(WebDriver driver, Runnable arrange, Runnable action) {
+        for (int i = 0; i < warmups; i++) {
+            arrange.run();
+            PageTimings.measure(driver, action);
+        }
+        List<PageTiming> samples = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            arrange.run();
+            samples.add(PageTimings.measure(driver, action));
+        }
+
+        StringBuilder breaches = new StringBuilder();
+        System.out.println("Performance budget '" + name + "' (" + runs + " runs):");
+        for (TimingMetric metric : TimingMetric.values()) {
+            double[] values = sorted(samples, metric);
+            if (values.length == 0) {
+                continue;
+            }
+            String distribution = distribution(values);
+            System.out.println("  " + metric.key() + ": " + distribution);
+
+            double[] limit = limits.get(metric);
+            if (limit == null) {
+                continue;
+            }
+            double p50 = percentile(values, 50);
+            double p95 = percentile(values, 95);
+            if (values.length < samples.size() || p50 > limit[0] || p95 > limit[1]) {
+                breaches.append(String.format("%n  %s budget p50<=%.0fms p95<=%.0fms, measured %s", metric.key(),
+                        limit[0], limit[1], distribution));
+                if (values.length < samples.size()) {
+                    breaches.append(" (reported by ").append(values.length).append(" of ").append(samples.size())
+                            .append(" runs)");
+                }
+            }
+        }
+
+        if (!breaches.isEmpty()) {
+            throw new AssertionError("Performance budget '" + name + "' exceeded:" + breaches);
+        }
+        return samples;
+    }
+
+    private static double[] sorted(List<PageTiming> samples, TimingMetric metric) {
+        return samples.stream()
+                .mapToDouble(sample -> sample.get(metric))
+                .filter(value -> !Double.isNaN(value))
+                .sorted()
+                .toArray();
+    }
+
+    // Nearest-rank percentile over the exact samples, p in [0, 100]
+    static double percentile(double[] sorted, double p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static String distribution(double[] sorted) {
+        return String.format("min=%.1fms p50=%.1fms p95=%.1fms max=%.1fms samples=%s", sorted[0],
+                percentile(sorted, 50), percentile(sorted, 95), sorted[sorted.length - 1],
+                Arrays.toString(Arrays.stream(sorted).map(v -> Math.round(v * 10) / 10.0).toArray()));
+    }
+}
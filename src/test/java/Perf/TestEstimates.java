@@ -0,0 +1,56 @@
+package Perf;
+
+import DataProviders.DataProviderRows;
+import org.testng.ITestNGMethod;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+// Expected run time of test methods and data-provider rows: recorded history first, then the average
+// per-invocation time of the test's class, then a flat static estimate per invocation
+public class TestEstimates {
+
+    public static final double STATIC_INVOCATION_MS = 3000;
+
+    private final DurationStore store;
+    private final Map<String, Double> classInvocationMs = new HashMap<>();
+
+    public TestEstimates(DurationStore store, Collection<ITestNGMethod> methods) {
+        this.store = store;
+        Map<String, double[]> perClass = new HashMap<>();
+        for (ITestNGMethod method : methods) {
+            OptionalDouble known = store.estimate(DurationStore.methodKey(method));
+            if (known.isPresent()) {
+                double[] sum = perClass.computeIfAbsent(method.getRealClass().getName(), k -> new double[2]);
+                sum[0] += known.getAsDouble();
+                sum[1] += DataProviderRows.count(method);
+            }
+        }
+        perClass.forEach((type, sum) -> classInvocationMs.put(type, sum[0] / sum[1]));
+    }
+
+    // Whole method, i.e. all of its data-provider rows
+    public double method(ITestNGMethod method) {
+        OptionalDouble known = store.estimate(DurationStore.methodKey(method));
+        return known.isPresent() ? known.getAsDouble() : invocation(method) * DataProviderRows.count(method);
+    }
+
+    public double row(ITestNGMethod method, Object[] parameters) {
+        OptionalDouble known = store.estimate(DurationStore.rowKey(method, parameters));
+        if (known.isPresent()) {
+            return known.getAsDouble();
+        }
+        // A row that was never recorded on its own gets an even share of its method
+        return method(method) / DataProviderRows.count(method);
+    }
+
+    public boolean known(ITestNGMethod method) {
+        return store.estimate(DurationStore.methodKey(method)).isPresent();
+    }
+
+    private double invocation(ITestNGMethod method) {
+        return classInvocationMs.getOrDefault(method.getRealClass().getName(), STATIC_INVOCATION_MS);
+    }
+}
@@ -0,0 +1,24 @@
+package Perf;
+
+// Page timings reported by PageTimings, in milliseconds from the start of the measured navigation.
+// Same-document (client-side routed) transitions have no navigation or paint entries of their own, so
+// every render metric falls back to the time from the triggering input to the last DOM update.
+public enum TimingMetric {
+    TIME_TO_FIRST_BYTE("ttfb"),
+    DOM_CONTENT_LOADED("domContentLoaded"),
+    LOAD("load"),
+    FIRST_CONTENTFUL_PAINT("fcp"),
+    LARGEST_CONTENTFUL_PAINT("lcp"),
+    // Sum of the part of every long task (> 50 ms) above 50 ms
+    BLOCKING_TIME("blockingTime");
+
+    private final String key;
+
+    TimingMetric(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+}
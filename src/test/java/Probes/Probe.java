@@ -0,0 +1,146 @@
+package Probes;
+
+import Waits.WaitEngine;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Answers "is this text or element on the page" inside the browser, so only a boolean or a few short
+// strings come back instead of the whole serialized DOM that getPageSource() ships. Text is matched
+// against textContent, i.e. the same characters getPageSource() contains, without the markup.
+public final class Probe {
+
+    private static final int MAX_MATCHES = 10;
+    private static final int MAX_MATCH_LENGTH = 200;
+
+    // Elements matching args.selector (the whole document when null) whose text contains args.text
+    // (any text when null)
+    private static final String MATCHING = ""
+            + "const args = arguments[0];"
+            + "const matching = () => (args.selector ? Array.from(document.querySelectorAll(args.selector)) : [document.documentElement])"
+            + "  .filter(el => args.text === null || (el.textContent || '').includes(args.text));";
+
+    private static final String PRESENT = MATCHING + "return matching().length > 0;";
+
+    private static final String MATCHES = MATCHING + ""
+            + "return matching().slice(0, args.limit).map(el => (el.textContent || '').trim().substring(0, args.maxLength));";
+
+    private static final String COUNT = "return document.querySelectorAll(arguments[0]).length;";
+
+    // Fails the moment a match shows up, succeeds once the DOM has been quiet for args.quietMs without one.
+    // A page that never goes quiet is judged when args.timeoutMs runs out: absent then means success.
+    private static final String SETTLES_WITHOUT = MATCHING + ""
+            + "const done = arguments[arguments.length - 1];"
+            + "let finished = false;"
+            + "let quiet = null;"
+            + "let cap = null;"
+            + "let observer = null;"
+            + "const finish = (result) => {"
+            + "  if (finished) return;"
+            + "  finished = true;"
+            + "  if (observer) observer.disconnect();"
+            + "  clearTimeout(quiet);"
+            + "  clearTimeout(cap);"
+            + "  done(result);"
+            + "};"
+            + "if (matching().length > 0) {"
+            + "  finish(false);"
+            + "} else {"
+            + "  observer = new MutationObserver(() => {"
+            + "    if (matching().length > 0) { finish(false); return; }"
+            + "    clearTimeout(quiet);"
+            + "    quiet = setTimeout(() => finish(true), args.quietMs);"
+            + "  });"
+            + "  observer.observe(document.documentElement, {subtree: true, childList: true, attributes: true, characterData: true});"
+            + "  quiet = setTimeout(() => finish(true), args.quietMs);"
+            + "  cap = setTimeout(() => finish(matching().length === 0), args.timeoutMs);"
+            + "}";
+
+    private static final Duration QUIET = Duration.ofMillis(100);
+
+    private final WebDriver driver;
+
+    private Probe(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static Probe on(WebDriver driver) {
+        return new Probe(driver);
+    }
+
+    public boolean hasText(String text) {
+        return hasText(null, text);
+    }
+
+    public boolean hasText(String cssSelector, String text) {
+        return Boolean.TRUE.equals(js().executeScript(PRESENT, args(cssSelector, text)));
+    }
+
+    public boolean exists(String cssSelector) {
+        return hasText(cssSelector, null);
+    }
+
+    public int count(String cssSelector) {
+        return ((Number) js().executeScript(COUNT, cssSelector)).intValue();
+    }
+
+    // Trimmed text (at most 200 characters each) of the first 10 elements matching the selector that
+    // contain the text; pass null text for any element
+    @SuppressWarnings("unchecked")
+    public List<String> textMatches(String cssSelector, String text) {
+        Map<String, Object> args = args(cssSelector, text);
+        args.put("limit", MAX_MATCHES);
+        args.put("maxLength", MAX_MATCH_LENGTH);
+        return (List<String>) js().executeScript(MATCHES, args);
+    }
+
+    // Negative checks that return as soon as the page has stopped changing instead of waiting out a timeout.
+    // If the page is still changing when the timeout passes, the answer is whether a match is absent at that point.
+    public boolean settlesWithoutText(String text) {
+        return settlesWithout(null, text);
+    }
+
+    public boolean settlesWithout(String cssSelector) {
+        return settlesWithout(cssSelector, null);
+    }
+
+    private boolean settlesWithout(String cssSelector, String text) {
+        Map<String, Object> args = args(cssSelector, text);
+        args.put("quietMs", QUIET.toMillis());
+        // One deadline for the whole check, however often a redirect or reload restarts it
+        long deadline = System.nanoTime() + WaitEngine.defaultTimeout().toNanos();
+        while (true) {
+            long remainingMs = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (remainingMs <= 0) {
+                // Reloads kept restarting the check; judge it like the in-page cap does, by what is there now
+                return !hasText(cssSelector, text);
+            }
+            args.put("timeoutMs", remainingMs);
+            try {
+                return Boolean.TRUE.equals(js().executeAsyncScript(SETTLES_WITHOUT, args));
+            } catch (WebDriverException e) {
+                // A navigation replaced the document mid-check; the new one has to settle on its own
+                if (!WaitEngine.isDocumentUnload(e)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> args(String cssSelector, String text) {
+        // HashMap because both values may be null
+        Map<String, Object> args = new HashMap<>();
+        args.put("selector", cssSelector);
+        args.put("text", text);
+        return args;
+    }
+
+    private JavascriptExecutor js() {
+        return (JavascriptExecutor) driver;
+    }
+}
@@ -0,0 +1,47 @@
+package Session;
+
+import Base.Config;
+import Pages.CartPage;
+import Pages.CheckoutPage;
+import Pages.Product;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Arranges a cart by writing it where the app keeps it instead of clicking add-to-cart buttons: one script
+// and one navigation, whatever the number of items. Expects a logged-in session on the application origin,
+// e.g. right after LoginPage.loginFast.
+public final class AppState {
+
+    private static final String CART_KEY = "cart-contents";
+
+    private AppState() {
+    }
+
+    // Replaces the whole cart; the page already open keeps rendering the old one until the next navigation
+    public static void seedCart(WebDriver driver, Product... items) {
+        List<Integer> ids = new ArrayList<>(items.length);
+        for (Product item : items) {
+            ids.add(item.id());
+        }
+        ((JavascriptExecutor) driver).executeScript(
+                "if (arguments[1].length === 0) { window.localStorage.removeItem(arguments[0]); }"
+                        + " else { window.localStorage.setItem(arguments[0], JSON.stringify(arguments[1])); }",
+                CART_KEY, ids);
+    }
+
+    public static CartPage openCart(WebDriver driver, Product... items) {
+        seedCart(driver, items);
+        driver.get(Config.baseUrl() + "cart.html");
+        return new CartPage(driver);
+    }
+
+    // Lands on the checkout information form, as if checkout had been clicked in the cart
+    public static CheckoutPage openCheckout(WebDriver driver, Product... items) {
+        seedCart(driver, items);
+        driver.get(Config.baseUrl() + "checkout-step-one.html");
+        return new CheckoutPage(driver);
+    }
+}
@@ -0,0 +1,75 @@
+package Session;
+
+import Base.Config;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public final class SessionCache {
+
+    // The cart is per-test state, never part of a persona's captured session
+    private static final String CART_KEY = "cart-contents";
+
+    private static final long EXPIRY_MARGIN_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private static final Map<String, CapturedSession> sessions = new ConcurrentHashMap<>();
+
+    private SessionCache() {
+    }
+
+    private record CapturedSession(String password, Set<Cookie> cookies, Map<String, String> localStorage) {
+
+        boolean isUsable(String password) {
+            if (!this.password.equals(password)) {
+                return false;
+            }
+            Date deadline = new Date(System.currentTimeMillis() + EXPIRY_MARGIN_MS);
+            return cookies.stream().noneMatch(cookie -> cookie.getExpiry() != null && cookie.getExpiry().before(deadline));
+        }
+    }
+
+    // Expects the browser to be on the application origin, as it is at the start of every test
+    public static boolean restore(WebDriver driver, String user, String password) {
+        CapturedSession session = sessions.get(user);
+        if (session == null || !session.isUsable(password)) {
+            return false;
+        }
+
+        for (Cookie cookie : session.cookies()) {
+            driver.manage().addCookie(cookie);
+        }
+        if (!session.localStorage().isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "for (const [key, value] of Object.entries(arguments[0])) { window.localStorage.setItem(key, value); }",
+                    session.localStorage());
+        }
+        driver.get(Config.baseUrl() + "inventory.html");
+        return true;
+    }
+
+    // Called right after a UI login; only successful logins are remembered
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver, String user, String password) {
+        if (!driver.getCurrentUrl().contains("inventory")) {
+            return;
+        }
+        Map<String, String> storage = (Map<String, String>) ((JavascriptExecutor) driver).executeScript(
+                "const entries = {};"
+                        + "for (let i = 0; i < window.localStorage.length; i++) {"
+                        + "  const key = window.localStorage.key(i);"
+                        + "  if (key !== arguments[0]) { entries[key] = window.localStorage.getItem(key); }"
+                        + "}"
+                        + "return entries;", CART_KEY);
+        sessions.put(user, new CapturedSession(password, Set.copyOf(driver.manage().getCookies()), Map.copyOf(storage)));
+    }
+
+    public static void clear() {
+        sessions.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package Session;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// What a test could have changed in a browser session, read in one script. The DOM is reduced to a hash of
+// the body's markup, so an opened menu, a re-sorted list or a new cart badge shows up without shipping it.
+public record SessionState(String path, String cookies, String localStorage, String sessionStorage, String domHash) {
+
+    private static final String SCRIPT = ""
+            + "const entries = storage => JSON.stringify(Object.keys(storage).sort().map(key => [key, storage.getItem(key)]));"
+            + "const markup = document.body ? document.body.innerHTML : '';"
+            + "let hash = 0;"
+            + "for (let i = 0; i < markup.length; i++) { hash = (Math.imul(31, hash) + markup.charCodeAt(i)) | 0; }"
+            + "return {"
+            + "  path: location.pathname + location.search,"
+            + "  cookies: document.cookie.split('; ').sort().join('; '),"
+            + "  localStorage: entries(window.localStorage),"
+            + "  sessionStorage: entries(window.sessionStorage),"
+            + "  domHash: markup.length + ':' + hash"
+            + "};";
+
+    @SuppressWarnings("unchecked")
+    public static SessionState capture(WebDriver driver) {
+        Map<String, String> state = (Map<String, String>) ((JavascriptExecutor) driver).executeScript(SCRIPT);
+        return new SessionState(state.get("path"), state.get("cookies"), state.get("localStorage"),
+                state.get("sessionStorage"), state.get("domHash"));
+    }
+
+    public boolean isOn(String page) {
+        return path.endsWith("/" + page);
+    }
+
+    public boolean hasCookie(String name, String value) {
+        return List.of(cookies.split("; ")).contains(name + "=" + value);
+    }
+
+    public boolean hasLocalStorageKey(String key) {
+        return localStorage.contains("[\"" + key + "\",");
+    }
+
+    public List<String> differencesFrom(SessionState baseline) {
+        List<String> changed = new ArrayList<>();
+        if (!path.equals(baseline.path)) {
+            changed.add("URL " + baseline.path + " -> " + path);
+        }
+        if (!cookies.equals(baseline.cookies)) {
+            changed.add("cookies " + baseline.cookies + " -> " + cookies);
+        }
+        if (!localStorage.equals(baseline.localStorage)) {
+            changed.add("localStorage " + baseline.localStorage + " -> " + localStorage);
+        }
+        if (!sessionStorage.equals(baseline.sessionStorage)) {
+            changed.add("sessionStorage " + baseline.sessionStorage + " -> " + sessionStorage);
+        }
+        if (!domHash.equals(baseline.domHash)) {
+            changed.add("DOM");
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,152 @@
+package Session;
+
+import Base.LaunchProfile;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Logged-in browsers parked between read-only tests, at most one per persona, page and launch profile.
+// A session is parked only after a passing read-only test left it logged in as the persona, on the page and
+// with an empty cart. The state it had then is the baseline every later test on it is checked against.
+// Parking stops once the read-only phase of a run is over, so no browser sits idle through the mutating tests.
+public final class SharedSessions {
+
+    private static final String SESSION_COOKIE = "session-username";
+    private static final String CART_KEY = "cart-contents";
+
+    public record Key(String persona, String page, LaunchProfile profile) {
+    }
+
+    private record Parked(WebDriver driver, SessionState baseline, Consumer<WebDriver> release) {
+    }
+
+    // The read-only test running on this thread; baseline is null when it started on a fresh lease
+    private static final class Lease {
+        final Key key;
+        final SessionState baseline;
+        SessionState verified;
+
+        Lease(Key key, SessionState baseline) {
+            this.key = key;
+            this.baseline = baseline;
+        }
+    }
+
+    private static final Map<Key, Parked> parked = new ConcurrentHashMap<>();
+    private static volatile boolean accepting = true;
+    private static final ThreadLocal<Lease> current = new ThreadLocal<>();
+
+    private static final AtomicLong reused = new AtomicLong();
+    private static final AtomicLong parkings = new AtomicLong();
+    private static final AtomicLong mutations = new AtomicLong();
+    private static final AtomicLong released = new AtomicLong();
+
+    private SharedSessions() {
+    }
+
+    // A parked session for the key, or null; either way the calling thread's test is tracked as read-only
+    public static WebDriver take(Key key) {
+        Parked session = parked.remove(key);
+        current.set(new Lease(key, session == null ? null : session.baseline()));
+        if (session == null) {
+            return null;
+        }
+        reused.incrementAndGet();
+        return session.driver();
+    }
+
+    // Called before every test, so a read-only lease never outlives its test
+    public static void forget() {
+        current.remove();
+    }
+
+    // True while the current test runs on a parked session of this persona, which is already logged in
+    public static boolean reusing(String persona) {
+        Lease lease = current.get();
+        return lease != null && lease.baseline != null && lease.key.persona().equals(persona);
+    }
+
+    // Called right after a passing read-only test; returns what it changed in a reused session, empty otherwise
+    public static List<String> verify(WebDriver driver) {
+        Lease lease = current.get();
+        if (lease == null) {
+            return List.of();
+        }
+        SessionState state = SessionState.capture(driver);
+        if (lease.baseline != null) {
+            List<String> changed = state.differencesFrom(lease.baseline);
+            if (!changed.isEmpty()) {
+                mutations.incrementAndGet();
+                return changed;
+            }
+            lease.verified = lease.baseline;
+        } else if (state.isOn(lease.key.page()) && state.hasCookie(SESSION_COOKIE, lease.key.persona())
+                && !state.hasLocalStorageKey(CART_KEY)) {
+            lease.verified = state;
+        }
+        return List.of();
+    }
+
+    // Parks the session of a passed test when verify() accepted it; otherwise the caller releases it as usual
+    public static boolean park(WebDriver driver, boolean passed, Consumer<WebDriver> release) {
+        Lease lease = current.get();
+        current.remove();
+        if (!passed || lease == null || lease.verified == null || !accepting) {
+            return false;
+        }
+        Parked session = new Parked(driver, lease.verified, release);
+        if (parked.putIfAbsent(lease.key, session) != null) {
+            return false;
+        }
+        // The phase may have ended while this session was being parked
+        if (!accepting && parked.remove(lease.key, session)) {
+            return false;
+        }
+        parkings.incrementAndGet();
+        return true;
+    }
+
+    // Called when the scheduler hands out a new run order, which starts with the read-only tests
+    public static void startReadOnlyPhase() {
+        accepting = true;
+    }
+
+    // Called when a mutating test starts: the read-only tests ran first, so nobody will take a parked session
+    public static void endReadOnlyPhase() {
+        accepting = false;
+        drain();
+    }
+
+    // Hands one parked browser back to make room in a bounded pool; false when none is parked
+    public static boolean releaseOne() {
+        for (Key key : parked.keySet()) {
+            Parked session = parked.remove(key);
+            if (session != null) {
+                release(session);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Hands every parked browser back, e.g. at the end of the suite
+    public static void drain() {
+        while (releaseOne()) {
+            // keep going until nothing is parked
+        }
+    }
+
+    private static void release(Parked session) {
+        released.incrementAndGet();
+        session.release().accept(session.driver());
+    }
+
+    public static String stats() {
+        return String.format("Shared read-only sessions: %d tests reused a logged-in session, %d parkings, %d released, %d mutations caught",
+                reused.get(), parkings.get(), released.get(), mutations.get());
+    }
+}
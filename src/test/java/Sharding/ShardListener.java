@@ -0,0 +1,126 @@
+package Sharding;
+
+import Base.Config;
+import Perf.DurationStore;
+import Perf.TestEstimates;
+import org.openqa.selenium.json.Json;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.IReporter;
+import org.testng.ISuite;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// With -Dshard=i/n only this node's part of the plan runs, and its results go to shard.dir/shard-i-of-n.json
+// for ShardMerge. Without the property every test runs and nothing is written.
+public class ShardListener implements IMethodInterceptor, IDataProviderInterceptor, IReporter {
+
+    private final ShardSpec spec = Config.shard() == null ? null : ShardSpec.parse(Config.shard());
+    private final Map<String, ShardPlan> plans = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (spec == null) {
+            return methods;
+        }
+        List<ITestNGMethod> testMethods = methods.stream()
+                .map(IMethodInstance::getMethod)
+                .distinct()
+                .sorted(Comparator.comparing(ITestNGMethod::getQualifiedName))
+                .toList();
+        ShardPlan plan = ShardPlan.of(spec, testMethods, new TestEstimates(DurationStore.shared(), testMethods));
+        plans.put(context.getName(), plan);
+        System.out.println(plan.summary());
+
+        return methods.stream().filter(instance -> plan.includes(instance.getMethod())).toList();
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> original, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext iTestContext) {
+        ShardPlan plan = plans.get(iTestContext.getName());
+        if (plan == null) {
+            return original;
+        }
+        Iterable<Object[]> rows = () -> original;
+        return StreamSupport.stream(rows.spliterator(), false)
+                .filter(row -> plan.includes(method, row))
+                .iterator();
+    }
+
+    @Override
+    public void generateReport(List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectory) {
+        if (spec == null) {
+            return;
+        }
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (ISuite suite : suites) {
+            for (ISuiteResult suiteResult : suite.getResults().values()) {
+                ITestContext context = suiteResult.getTestContext();
+                Stream.of(context.getPassedTests(), context.getFailedTests(), context.getSkippedTests(),
+                                context.getFailedButWithinSuccessPercentageTests())
+                        .flatMap(outcomes -> outcomes.getAllResults().stream())
+                        .map(ShardListener::toEntry)
+                        .forEach(results::add);
+            }
+        }
+        results.sort(Comparator.comparing(entry -> (String) entry.get("key")));
+
+        Map<String, Object> partial = new LinkedHashMap<>();
+        partial.put("shard", spec.toString());
+        partial.put("plannedMillis", Math.round(plans.values().stream().mapToDouble(ShardPlan::plannedMillis).sum()));
+        partial.put("startedAt", results.stream().mapToLong(entry -> (Long) entry.get("startedAt")).min().orElse(0));
+        partial.put("finishedAt", results.stream().mapToLong(entry -> (Long) entry.get("finishedAt")).max().orElse(0));
+        partial.put("results", results);
+
+        Path file = Config.shardDir().resolve(spec.fileName());
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, new Json().toJson(partial), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write shard results to " + file, e);
+        }
+        System.out.println("Shard " + spec + " results written to " + file.toAbsolutePath());
+    }
+
+    private static Map<String, Object> toEntry(ITestResult result) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("key", DurationStore.rowKey(result.getMethod(), result.getParameters()));
+        entry.put("method", DurationStore.methodKey(result.getMethod()));
+        entry.put("parameters", Arrays.deepToString(result.getParameters()));
+        entry.put("status", switch (result.getStatus()) {
+            case ITestResult.SUCCESS -> "PASS";
+            case ITestResult.FAILURE, ITestResult.SUCCESS_PERCENTAGE_FAILURE -> "FAIL";
+            default -> "SKIP";
+        });
+        entry.put("startedAt", result.getStartMillis());
+        entry.put("finishedAt", result.getEndMillis());
+        entry.put("millis", result.getEndMillis() - result.getStartMillis());
+        if (result.getThrowable() != null) {
+            entry.put("message", String.valueOf(result.getThrowable()).lines().findFirst().orElse(""));
+        }
+        return entry;
+    }
+}
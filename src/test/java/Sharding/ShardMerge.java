@@ -0,0 +1,102 @@
+package Sharding;
+
+import Base.Config;
+import Perf.DurationStore;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// Combines the shard-i-of-n.json files of one sharded run into merged-results.json, prints a summary and
+// folds the measured durations into the durations file so the next split is balanced on fresher data:
+//   mvn -Pmerge-shards test-compile exec:java [-Dshard.dir=target/shards]
+public class ShardMerge {
+
+    private static final Type PARTIAL = new TypeToken<Map<String, Object>>() {
+    }.getType();
+
+    public static void main(String[] args) throws IOException {
+        Path dir = args.length > 0 ? Path.of(args[0]) : Config.shardDir();
+        List<Map<String, Object>> partials = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().matches("shard-\\d+-of-\\d+\\.json")).sorted().toList()) {
+                partials.add(new Json().toType(Files.readString(file, StandardCharsets.UTF_8), PARTIAL));
+            }
+        }
+        if (partials.isEmpty()) {
+            System.out.println("No shard results found in " + dir.toAbsolutePath());
+            System.exit(1);
+        }
+        partials.sort(Comparator.comparingInt(partial -> ShardSpec.parse((String) partial.get("shard")).index()));
+
+        int total = ShardSpec.parse((String) partials.get(0).get("shard")).total();
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 1; i <= total; i++) {
+            int index = i;
+            if (partials.stream().noneMatch(partial -> ShardSpec.parse((String) partial.get("shard")).index() == index)) {
+                missing.add(i);
+            }
+        }
+
+        Map<String, Map<String, Object>> merged = new TreeMap<>();
+        Map<String, Integer> statuses = new TreeMap<>();
+        StringBuilder shardLines = new StringBuilder();
+        DurationStore durations = DurationStore.shared();
+        for (Map<String, Object> partial : partials) {
+            List<Map<String, Object>> results = results(partial);
+            for (Map<String, Object> result : results) {
+                merged.put((String) result.get("key"), result);
+                statuses.merge((String) result.get("status"), 1, Integer::sum);
+                if (!"SKIP".equals(result.get("status"))) {
+                    durations.record((String) result.get("method"), (String) result.get("key"),
+                            ((Number) result.get("millis")).longValue());
+                }
+            }
+            long wall = number(partial, "finishedAt") - number(partial, "startedAt");
+            shardLines.append(String.format("  shard %s: %d tests, %.1f s wall, %.1f s planned%n", partial.get("shard"),
+                    results.size(), wall / 1000.0, number(partial, "plannedMillis") / 1000.0));
+        }
+        durations.save();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("shards", total);
+        report.put("missingShards", missing);
+        report.put("statuses", statuses);
+        report.put("results", new ArrayList<>(merged.values()));
+        Path out = dir.resolve("merged-results.json");
+        Files.writeString(out, new Json().toJson(report), StandardCharsets.UTF_8);
+
+        int failed = statuses.getOrDefault("FAIL", 0);
+        System.out.printf("Merged %d of %d shards: %d tests, %d passed, %d failed, %d skipped%n", partials.size(), total,
+                merged.size(), statuses.getOrDefault("PASS", 0), failed, statuses.getOrDefault("SKIP", 0));
+        System.out.print(shardLines);
+        merged.values().stream()
+                .filter(result -> "FAIL".equals(result.get("status")))
+                .forEach(result -> System.out.println("  FAILED " + result.get("key") + ": " + result.getOrDefault("message", "")));
+        if (!missing.isEmpty()) {
+            System.out.println("  missing shards: " + missing);
+        }
+        System.out.println("Merged report written to " + out.toAbsolutePath());
+        System.exit(failed > 0 || !missing.isEmpty() ? 1 : 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> results(Map<String, Object> partial) {
+        return (List<Map<String, Object>>) partial.getOrDefault("results", List.of());
+    }
+
+    private static long number(Map<String, Object> partial, String field) {
+        return partial.get(field) instanceof Number n ? n.longValue() : 0;
+    }
+}
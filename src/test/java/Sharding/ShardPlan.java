@@ -0,0 +1,94 @@
+package Sharding;
+
+import DataProviders.DataProviderRows;
+import Perf.DurationStore;
+import Perf.TestEstimates;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Splits test methods and data-provider rows into balanced shards: items are taken longest first and each
+// goes to the shard with the least planned time. Every node computes the same plan from the same test
+// classes and durations file; ties are broken by key and shard number, never by iteration order.
+public class ShardPlan {
+
+    private record Item(String key, String methodKey, double millis) {
+    }
+
+    private final ShardSpec spec;
+    private final Set<String> keys = new HashSet<>();
+    private final Set<String> methods = new HashSet<>();
+    private final double[] plannedMillis;
+    private int items;
+
+    private ShardPlan(ShardSpec spec) {
+        this.spec = spec;
+        this.plannedMillis = new double[spec.total()];
+    }
+
+    public static ShardPlan of(ShardSpec spec, List<ITestNGMethod> testMethods, TestEstimates estimates) {
+        Map<String, Item> byKey = new LinkedHashMap<>();
+        for (ITestNGMethod method : testMethods) {
+            String methodKey = DurationStore.methodKey(method);
+            Optional<List<Object[]>> rows = DataProviderRows.rows(method);
+            if (rows.isPresent() && !rows.get().isEmpty()) {
+                for (Object[] row : rows.get()) {
+                    String rowKey = DurationStore.rowKey(method, row);
+                    // Identical rows share a key, so they stay together on one shard
+                    byKey.merge(rowKey, new Item(rowKey, methodKey, estimates.row(method, row)),
+                            (a, b) -> new Item(a.key(), a.methodKey(), a.millis() + b.millis()));
+                }
+            } else {
+                byKey.putIfAbsent(methodKey, new Item(methodKey, methodKey, estimates.method(method)));
+            }
+        }
+
+        List<Item> ordered = new ArrayList<>(byKey.values());
+        ordered.sort(Comparator.comparingDouble(Item::millis).reversed().thenComparing(Item::key));
+
+        ShardPlan plan = new ShardPlan(spec);
+        for (Item item : ordered) {
+            int target = 0;
+            for (int shard = 1; shard < spec.total(); shard++) {
+                if (plan.plannedMillis[shard] < plan.plannedMillis[target]) {
+                    target = shard;
+                }
+            }
+            plan.plannedMillis[target] += item.millis();
+            if (target == spec.index() - 1) {
+                plan.keys.add(item.key());
+                plan.methods.add(item.methodKey());
+                plan.items++;
+            }
+        }
+        return plan;
+    }
+
+    public boolean includes(ITestNGMethod method) {
+        return methods.contains(DurationStore.methodKey(method));
+    }
+
+    public boolean includes(ITestNGMethod method, Object[] row) {
+        return keys.contains(DurationStore.methodKey(method)) || keys.contains(DurationStore.rowKey(method, row));
+    }
+
+    public double plannedMillis() {
+        return plannedMillis[spec.index() - 1];
+    }
+
+    public String summary() {
+        StringBuilder shards = new StringBuilder();
+        for (int i = 0; i < plannedMillis.length; i++) {
+            shards.append(i == 0 ? "" : " / ").append(String.format("%.1f", plannedMillis[i] / 1000));
+        }
+        return String.format("Shard %s: %d methods, %d invocations, planned %.1f s (all shards: %s s)",
+                spec, methods.size(), items, plannedMillis() / 1000, shards);
+    }
+}
@@ -0,0 +1,28 @@
+package Sharding;
+
+// The index-th (1-based) of total shards, written "index/total"
+public record ShardSpec(int index, int total) {
+
+    public ShardSpec {
+        if (total < 1 || index < 1 || index > total) {
+            throw new IllegalArgumentException("Invalid shard " + index + "/" + total + ", expected i/n with 1 <= i <= n");
+        }
+    }
+
+    public static ShardSpec parse(String spec) {
+        String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid shard '" + spec + "', expected i/n such as 2/4");
+        }
+        return new ShardSpec(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+
+    public String fileName() {
+        return "shard-" + index + "-of-" + total + ".json";
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+}
@@ -0,0 +1,154 @@
+package StandIn;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class SauceDemoServer {
+
+    private static final String RESOURCE_ROOT = "/standin/";
+
+    // Every app route is served the same shell; app.js renders the page for location.pathname
+    private static final Set<String> APP_ROUTES = Set.of("/", "/index.html", "/inventory.html",
+            "/inventory-item.html", "/cart.html", "/checkout-step-one.html", "/checkout-step-two.html",
+            "/checkout-complete.html");
+
+    private static final Map<String, String> IMAGE_LABELS = Map.of(
+            "sauce-backpack-1200x1500", "Backpack",
+            "bike-light-1200x1500", "Bike Light",
+            "bolt-shirt-1200x1500", "Bolt T-Shirt",
+            "sauce-pullover-1200x1500", "Fleece Jacket",
+            "red-onesie-1200x1500", "Onesie",
+            "red-tatt-1200x1500", "Red T-Shirt",
+            "sl-404", "404");
+
+    private static volatile SauceDemoServer shared;
+
+    private final Map<String, byte[]> resources = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long glitchDelayMs;
+
+    public SauceDemoServer(int port, long glitchDelayMs) {
+        this.glitchDelayMs = glitchDelayMs;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start SauceDemo stand-in on port " + port, e);
+        }
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "saucedemo-standin");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    // Started on first use and kept for the rest of the JVM, so a suite pays the startup once
+    public static SauceDemoServer shared() {
+        SauceDemoServer instance = shared;
+        if (instance == null) {
+            synchronized (SauceDemoServer.class) {
+                instance = shared;
+                if (instance == null) {
+                    instance = new SauceDemoServer(Integer.getInteger("standin.port", 0),
+                            Long.getLong("standin.glitchDelayMs", 2500));
+                    Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "saucedemo-standin-shutdown"));
+                    System.out.println("SauceDemo stand-in listening on " + instance.baseUrl());
+                    shared = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                send(exchange, 405, "text/plain", "Method not allowed".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (APP_ROUTES.contains(path)) {
+                send(exchange, 200, "text/html; charset=utf-8", resource("index.html"));
+            } else if (path.equals("/static/config.js")) {
+                String config = "window.STANDIN_CONFIG = {glitchDelayMs: " + glitchDelayMs + "};\n";
+                send(exchange, 200, "application/javascript", config.getBytes(StandardCharsets.UTF_8));
+            } else if (path.equals("/static/app.js")) {
+                send(exchange, 200, "application/javascript", resource("app.js"));
+            } else if (path.equals("/static/app.css")) {
+                send(exchange, 200, "text/css", resource("app.css"));
+            } else if (path.startsWith("/static/media/") && path.endsWith(".svg")) {
+                String name = path.substring("/static/media/".length(), path.length() - ".svg".length());
+                String label = IMAGE_LABELS.get(name);
+                if (label == null) {
+                    send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+                } else {
+                    send(exchange, 200, "image/svg+xml", image(label));
+                }
+            } else {
+                send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        boolean head = exchange.getRequestMethod().equals("HEAD");
+        exchange.sendResponseHeaders(status, head ? -1 : body.length);
+        if (!head) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private byte[] resource(String name) throws IOException {
+        byte[] cached = resources.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        try (InputStream in = SauceDemoServer.class.getResourceAsStream(RESOURCE_ROOT + name)) {
+            if (in == null) {
+                throw new IOException("Missing stand-in resource " + RESOURCE_ROOT + name);
+            }
+            byte[] bytes = in.readAllBytes();
+            resources.put(name, bytes);
+            return bytes;
+        }
+    }
+
+    private byte[] image(String label) {
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"240\" height=\"300\" viewBox=\"0 0 240 300\">"
+                + "<rect width=\"240\" height=\"300\" fill=\"#e8e8e8\"/>"
+                + "<text x=\"120\" y=\"150\" font-family=\"sans-serif\" font-size=\"20\" text-anchor=\"middle\">"
+                + label + "</text></svg>";
+        return svg.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -2,16 +2,18 @@ package Tests;
 
 import Base.BaseTest;
 import Pages.CheckoutPage;
+import Pages.InputMode;
 import Pages.InventoryPage;
 import Pages.LoginPage;
+import Pages.Product;
+import Session.AppState;
+import Waits.Conditions;
+import Waits.WaitEngine;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
 import java.util.List;
 
 public class CartTest extends BaseTest {
@@ -19,7 +21,7 @@ public class CartTest extends BaseTest {
     @Test
     public void testAddToCartUpdatesBadge() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         InventoryPage inventoryPage = new InventoryPage(driver);
         inventoryPage.addItemToCart();
@@ -32,14 +34,13 @@ public class CartTest extends BaseTest {
     @Test
     public void testRemoveItemFromCartClearsBadge() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         InventoryPage inventoryPage = new InventoryPage(driver);
         inventoryPage.addItemToCart();
         driver.findElement(By.id("remove-sauce-labs-backpack")).click();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(2));
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(By.className("shopping_cart_badge")));
+        WaitEngine.until(driver, Conditions.badgeCount(0));
 
         boolean badgeGone = driver.findElements(By.className("shopping_cart_badge")).isEmpty();
         Assert.assertTrue(badgeGone, "Badge not cleared after removing item");
@@ -48,26 +49,23 @@ public class CartTest extends BaseTest {
     @Test
     public void testCartBadgeAccurateAfterMultipleAddsAndRemoves() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         WebElement backpackBtn = driver.findElement(By.id("add-to-cart-sauce-labs-backpack"));
         WebElement bikeLightBtn = driver.findElement(By.id("add-to-cart-sauce-labs-bike-light"));
 
         backpackBtn.click();
-        new WebDriverWait(driver, Duration.ofSeconds(2))
-                .until(ExpectedConditions.textToBePresentInElementLocated(By.className("shopping_cart_badge"), "1"));
+        WaitEngine.until(driver, Conditions.badgeCount(1));
 
         bikeLightBtn.click();
-        new WebDriverWait(driver, Duration.ofSeconds(2))
-                .until(ExpectedConditions.textToBePresentInElementLocated(By.className("shopping_cart_badge"), "2"));
+        WaitEngine.until(driver, Conditions.badgeCount(2));
 
         Assert.assertEquals(driver.findElement(By.className("shopping_cart_badge")).getText(), "2");
 
         WebElement removeBikeLight = driver.findElement(By.id("remove-sauce-labs-bike-light"));
         removeBikeLight.click();
 
-        new WebDriverWait(driver, Duration.ofSeconds(2))
-                .until(ExpectedConditions.textToBePresentInElementLocated(By.className("shopping_cart_badge"), "1"));
+        WaitEngine.until(driver, Conditions.badgeCount(1));
 
         Assert.assertEquals(driver.findElement(By.className("shopping_cart_badge")).getText(), "1");
     }
@@ -75,11 +73,10 @@ public class CartTest extends BaseTest {
     @Test
     public void testContinueShoppingButtonNavigatesToInventory() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
-        // Add item to cart and go to cart page
-        driver.findElement(By.id("add-to-cart-sauce-labs-backpack")).click();
-        driver.findElement(By.className("shopping_cart_link")).click();
+        // Open the cart page with one item
+        AppState.openCart(driver, Product.BACKPACK);
 
         // Click "Continue Shopping"
         driver.findElement(By.id("continue-shopping")).click();
@@ -92,7 +89,7 @@ public class CartTest extends BaseTest {
     @Test
     public void testCartPersistenceAfterLogoutAndLogin() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         // Add two items to cart
         driver.findElement(By.id("add-to-cart-sauce-labs-backpack")).click();
@@ -100,8 +97,8 @@ public class CartTest extends BaseTest {
 
         // Logout
         driver.findElement(By.id("react-burger-menu-btn")).click();
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        wait.until(ExpectedConditions.elementToBeClickable(By.id("logout_sidebar_link"))).click();
+        WaitEngine.until(driver, Conditions.menuOpen());
+        driver.findElement(By.id("logout_sidebar_link")).click();
 
         // Log back in
         loginPage.login("standard_user", "secret_sauce");
@@ -114,13 +111,9 @@ public class CartTest extends BaseTest {
     @Test
     public void testCartItemTotalMatchesCheckoutTotal() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
-        InventoryPage inventoryPage = new InventoryPage(driver);
-        inventoryPage.addItemToCart(); // adds Backpack
-        driver.findElement(By.id("add-to-cart-sauce-labs-bike-light")).click();
-
-        inventoryPage.goToCart();
+        AppState.openCart(driver, Product.BACKPACK, Product.BIKE_LIGHT);
 
         // Collect all item prices in the cart
         List<WebElement> itemPrices = driver.findElements(By.className("inventory_item_price"));
@@ -133,7 +126,7 @@ public class CartTest extends BaseTest {
         driver.findElement(By.id("checkout")).click();
 
         CheckoutPage checkoutPage = new CheckoutPage(driver);
-        checkoutPage.fillCheckoutInfo("John", "Doe", "12345");
+        checkoutPage.fillCheckoutInfo("John", "Doe", "12345", InputMode.BATCHED);
 
         // Get item total from summary
         WebElement itemTotal = driver.findElement(By.className("summary_subtotal_label"));
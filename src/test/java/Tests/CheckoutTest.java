@@ -3,6 +3,8 @@ package Tests;
 import Base.BaseTest;
 import DataProviders.UserDataProvider;
 import Pages.*;
+import Probes.Probe;
+import Session.AppState;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -16,11 +18,9 @@ public class CheckoutTest extends BaseTest {
 
     public void loginAndAddToCart() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
-        InventoryPage inventoryPage = new InventoryPage(driver);
-        inventoryPage.addItemToCart();
-        inventoryPage.goToCart();
+        AppState.openCart(driver, Product.BACKPACK);
     }
 
     @Test
@@ -111,10 +111,8 @@ public class CheckoutTest extends BaseTest {
 
             System.out.println("Trying input: " + input);
 
-            driver.findElement(By.id("first-name")).sendKeys(input);
-            driver.findElement(By.id("last-name")).sendKeys(input);
-            driver.findElement(By.id("postal-code")).sendKeys(input);
-            driver.findElement(By.id("continue")).click();
+            // Typed on purpose: the characters have to survive real keystrokes, not just a value assignment
+            checkoutPage.fillCheckoutInfo(input, input, input, InputMode.TYPED);
 
             boolean reachedNextPage = driver.getCurrentUrl().contains("checkout-step-two");
 
@@ -143,10 +141,10 @@ public class CheckoutTest extends BaseTest {
         cartPage.clickCheckout();
 
         CheckoutPage checkoutPage = new CheckoutPage(driver);
-        checkoutPage.fillCheckoutInfo("Jane", "Doe", "11000");
+        checkoutPage.fillCheckoutInfo("Jane", "Doe", "11000", InputMode.BATCHED);
 
         Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-two"));
-        Assert.assertTrue(driver.getPageSource().contains("Payment Information"));
+        Assert.assertTrue(Probe.on(driver).hasText("Payment Information"));
     }
 
     @Test
@@ -157,7 +155,7 @@ public class CheckoutTest extends BaseTest {
         cartPage.clickCheckout();
 
         CheckoutPage checkoutPage = new CheckoutPage(driver);
-        checkoutPage.fillCheckoutInfo("Jane", "Doe", "11000");
+        checkoutPage.fillCheckoutInfo("Jane", "Doe", "11000", InputMode.BATCHED);
         checkoutPage.finishCheckout();
 
         Assert.assertTrue(driver.getCurrentUrl().contains("checkout-complete"));
@@ -169,7 +167,7 @@ public class CheckoutTest extends BaseTest {
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testCheckoutWithoutAddingItems(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
             Assert.assertTrue(loginPage.getErrorMessage().contains("locked out"));
@@ -190,7 +188,7 @@ public class CheckoutTest extends BaseTest {
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testCannotCheckoutWithEmptyCart(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
             Assert.assertTrue(loginPage.getErrorMessage().contains("locked out"));
@@ -214,16 +212,12 @@ public class CheckoutTest extends BaseTest {
 
     @Test
     public void testCartItemsMatchCheckoutOverview() {
-        // Login and add two items
+        // Login and open the cart with two items
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
-
-        InventoryPage inventoryPage = new InventoryPage(driver);
-        driver.findElement(By.id("add-to-cart-sauce-labs-backpack")).click();
-        driver.findElement(By.id("add-to-cart-sauce-labs-bike-light")).click();
+        loginPage.loginFast("standard_user", "secret_sauce");
+        AppState.openCart(driver, Product.BACKPACK, Product.BIKE_LIGHT);
 
-        // Go to cart and collect item names
-        inventoryPage.goToCart();
+        // Collect item names
         List<WebElement> cartItems = driver.findElements(By.className("inventory_item_name"));
         List<String> cartItemNames = new ArrayList<>();
         for (WebElement item : cartItems) {
@@ -233,7 +227,7 @@ public class CheckoutTest extends BaseTest {
         // Proceed to checkout
         driver.findElement(By.id("checkout")).click();
         CheckoutPage checkoutPage = new CheckoutPage(driver);
-        checkoutPage.fillCheckoutInfo("John", "Doe", "12345");
+        checkoutPage.fillCheckoutInfo("John", "Doe", "12345", InputMode.BATCHED);
 
         // Get item names from checkout overview
         List<WebElement> overviewItems = driver.findElements(By.className("inventory_item_name"));
@@ -1,8 +1,18 @@
 package Tests;
 
 import Base.BaseTest;
+import Base.Config;
+import Base.ReadOnly;
+import Network.NetworkPolicy;
+import Network.ResourceType;
+import Pages.InventoryItem;
 import Pages.InventoryPage;
 import Pages.LoginPage;
+import Perf.PerformanceBudget;
+import Perf.TimingMetric;
+import Probes.Probe;
+import Waits.Conditions;
+import Waits.WaitEngine;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 import org.testng.Assert;
@@ -13,12 +23,15 @@ import java.util.*;
 
 import DataProviders.UserDataProvider;
 
+// None of the checks look at rendered images or fonts, and only the app's own host is needed
+@NetworkPolicy(block = {ResourceType.IMAGE, ResourceType.FONT}, blockThirdParty = true, cache = ResourceType.STYLESHEET)
 public class InventoryTest extends BaseTest {
 
+    @ReadOnly
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testInventoryLoads(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
             Assert.assertTrue(loginPage.getErrorMessage().contains("locked out"));
@@ -32,17 +45,13 @@ public class InventoryTest extends BaseTest {
     @Test
     public void testAddMultipleItemsToCart() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         InventoryPage inventoryPage = new InventoryPage(driver);
 
         inventoryPage.addItemToCart(); // Adds backpack
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        WaitEngine.until(driver, Conditions.badgeCount(1));
 
         driver.findElement(By.id("add-to-cart-sauce-labs-bike-light")).click(); // Adds bike light
 
@@ -52,7 +61,7 @@ public class InventoryTest extends BaseTest {
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testRemoveItemFromCart(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
             Assert.assertTrue(loginPage.getErrorMessage().contains("locked out"));
@@ -72,7 +81,7 @@ public class InventoryTest extends BaseTest {
     @Test
     public void testCartNavigation() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         InventoryPage inventoryPage = new InventoryPage(driver);
         inventoryPage.goToCart();
@@ -80,36 +89,32 @@ public class InventoryTest extends BaseTest {
         Assert.assertTrue(driver.getCurrentUrl().contains("cart"), "User was not navigated to cart page");
     }
 
+    @ReadOnly
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testAllProductsHaveEssentialElements(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
             Assert.assertTrue(loginPage.getErrorMessage().contains("locked out"));
             return;
         }
 
-        List<WebElement> items = driver.findElements(By.className("inventory_item"));
-
-        for (WebElement item : items) {
-            Assert.assertFalse(item.findElements(By.className("inventory_item_name")).isEmpty(),
-                    "Missing name for user: " + username);
-            Assert.assertFalse(item.findElements(By.className("inventory_item_price")).isEmpty(),
-                    "Missing price for user: " + username);
-            Assert.assertFalse(item.findElements(By.tagName("img")).isEmpty(),
-                    "Missing image for user: " + username);
-            Assert.assertFalse(item.findElements(By.className("inventory_item_desc")).isEmpty(),
-                    "Missing description for user: " + username);
-            Assert.assertFalse(item.findElements(By.tagName("button")).isEmpty(),
-                    "Missing button for user: " + username);
+        List<InventoryItem> items = new InventoryPage(driver).cachedSnapshot(username);
+
+        for (InventoryItem item : items) {
+            Assert.assertNotNull(item.name(), "Missing name for user: " + username);
+            Assert.assertNotNull(item.priceText(), "Missing price for user: " + username);
+            Assert.assertNotNull(item.imageSrc(), "Missing image for user: " + username);
+            Assert.assertNotNull(item.description(), "Missing description for user: " + username);
+            Assert.assertNotNull(item.buttonId(), "Missing button for user: " + username);
         }
     }
 
     @Test
     public void testAddRemoveButtonToggle() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         WebElement button = driver.findElement(By.id("add-to-cart-sauce-labs-backpack"));
         button.click();
@@ -123,38 +128,43 @@ public class InventoryTest extends BaseTest {
         Assert.assertTrue(addButtonAgain.isDisplayed(), "Add to cart button not visible after removing");
     }
 
-    @Test
-    public void testPerformanceGlitchUserLoginTime() {
-        long start = System.currentTimeMillis();
-
+    // Measured with the real page weight: a blocked product image would no longer be the LCP element
+    @NetworkPolicy
+    @Test(dataProvider = "loginPerformanceBudgets", dataProviderClass = UserDataProvider.class)
+    public void testLoginPerformanceBudget(String username, double p50Millis, double p95Millis) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("performance_glitch_user", "secret_sauce");
 
-        long duration = System.currentTimeMillis() - start;
-        Assert.assertTrue(duration < 5000, "Page took too long to load");
+        PerformanceBudget.of("login as " + username)
+                .limit(TimingMetric.LARGEST_CONTENTFUL_PAINT, p50Millis, p95Millis)
+                .verify(driver, () -> {
+                    driver.manage().deleteAllCookies();
+                    driver.get(Config.baseUrl());
+                }, () -> loginPage.login(username, "secret_sauce"));
+
+        Assert.assertTrue(driver.getCurrentUrl().contains("inventory"), "Login did not reach the inventory page");
     }
 
     @Test
     public void testBlockedUserCannotAccessInventoryDirectly() {
-        driver.get("https://www.saucedemo.com/inventory.html");
-        Assert.assertTrue(driver.getCurrentUrl().contains("saucedemo.com"), "Unauthorized access allowed");
+        driver.get(Config.baseUrl() + "inventory.html");
+        Assert.assertTrue(driver.getCurrentUrl().startsWith(Config.baseUrl()), "Unauthorized access allowed");
     }
 
+    @ReadOnly
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testProductPricesArePositive(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
             Assert.assertTrue(loginPage.getErrorMessage().contains("locked out"));
             return;
         }
 
-        List<WebElement> priceElements = driver.findElements(By.className("inventory_item_price"));
+        List<InventoryItem> items = new InventoryPage(driver).cachedSnapshot(username);
 
-        for (WebElement priceElement : priceElements) {
-            String priceText = priceElement.getText().replace("$", "").trim();
-            double price = Double.parseDouble(priceText);
+        for (InventoryItem item : items) {
+            double price = item.price();
             Assert.assertTrue(price > 0,
                     "Found a non-positive price ($" + price + ") for user: " + username);
         }
@@ -162,62 +172,65 @@ public class InventoryTest extends BaseTest {
 
     //------- Duplicates ---------
 
+    @ReadOnly
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testNoDuplicateProductTitles(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
-            Assert.assertTrue(driver.getPageSource().contains("locked out"));
+            Assert.assertTrue(Probe.on(driver).hasText("locked out"));
             return;
         }
 
         InventoryPage inventoryPage = new InventoryPage(driver);
-        List<WebElement> titleElements = driver.findElements(By.className("inventory_item_name"));
+        List<String> titles = inventoryPage.cachedSnapshot(username).stream().map(InventoryItem::name).toList();
 
         Set<String> uniqueTitles = new HashSet<>();
-        for (WebElement title : titleElements) {
-            String text = title.getText().trim();
+        for (String title : titles) {
+            String text = title.trim();
             Assert.assertTrue(uniqueTitles.add(text), "Duplicate product title found: " + text);
         }
     }
 
+    @ReadOnly
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testNoDuplicateProductDescriptions(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
-            Assert.assertTrue(driver.getPageSource().contains("locked out"));
+            Assert.assertTrue(Probe.on(driver).hasText("locked out"));
             return;
         }
 
         InventoryPage inventoryPage = new InventoryPage(driver);
-        List<WebElement> descriptionElements = driver.findElements(By.className("inventory_item_desc"));
+        List<String> descriptions = inventoryPage.cachedSnapshot(username).stream().map(InventoryItem::description).toList();
 
         Set<String> uniqueDescriptions = new HashSet<>();
-        for (WebElement desc : descriptionElements) {
-            String text = desc.getText().trim();
+        for (String desc : descriptions) {
+            String text = desc.trim();
             Assert.assertTrue(uniqueDescriptions.add(text), "Duplicate product description found: " + text);
         }
     }
 
+    @ReadOnly
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testNoDuplicateProductImages(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
-            Assert.assertTrue(driver.getPageSource().contains("locked out"));
+            Assert.assertTrue(Probe.on(driver).hasText("locked out"));
             return;
         }
 
         InventoryPage inventoryPage = new InventoryPage(driver);
-        List<WebElement> images = driver.findElements(By.cssSelector(".inventory_item_img img"));
+        List<InventoryItem> items = inventoryPage.cachedSnapshot(username);
 
         Set<String> uniqueSrcs = new HashSet<>();
-        for (WebElement image : images) {
-            String src = image.getAttribute("src");
+        for (InventoryItem item : items) {
+            String src = item.imageSrc();
             Assert.assertFalse(src.isEmpty(), "Found image with empty src attribute.");
             Assert.assertTrue(uniqueSrcs.add(src), "Duplicate image src found: " + src);
         }
@@ -225,18 +238,19 @@ public class InventoryTest extends BaseTest {
 
     //------- Product Titles and Descriptions are proper ------
 
+    @ReadOnly
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testItemTitlesAreProper(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
-            Assert.assertTrue(driver.getPageSource().contains("locked out"));
+            Assert.assertTrue(Probe.on(driver).hasText("locked out"));
             return;
         }
 
         InventoryPage inventoryPage = new InventoryPage(driver);
-        List<String> itemTitles = inventoryPage.getAllItemTitles();
+        List<String> itemTitles = inventoryPage.cachedSnapshot(username).stream().map(InventoryItem::name).toList();
 
         for (String title : itemTitles) {
             title = title.trim();
@@ -263,18 +277,19 @@ public class InventoryTest extends BaseTest {
     }
 
 
+    @ReadOnly
     @Test(dataProvider = "usersWhoCanReachCart", dataProviderClass = UserDataProvider.class)
     public void testItemDescriptionsAreProper(String username, boolean shouldReachCart) {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(username, "secret_sauce");
+        loginPage.loginFast(username, "secret_sauce");
 
         if (!shouldReachCart) {
-            Assert.assertTrue(driver.getPageSource().contains("locked out"));
+            Assert.assertTrue(Probe.on(driver).hasText("locked out"));
             return;
         }
 
         InventoryPage inventoryPage = new InventoryPage(driver);
-        List<String> descriptions = inventoryPage.getAllItemDescriptions();
+        List<String> descriptions = inventoryPage.cachedSnapshot(username).stream().map(InventoryItem::description).toList();
 
         for (String desc : descriptions) {
             String trimmed = desc.trim();
@@ -298,24 +313,17 @@ public class InventoryTest extends BaseTest {
     @Test
     public void testSortingByPriceLowToHigh() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         WebElement sortDropdown = driver.findElement(By.className("product_sort_container"));
         Select select = new Select(sortDropdown);
         select.selectByVisibleText("Price (low to high)");
+        WaitEngine.until(driver, Conditions.sortApplied("lohi"));
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        List<WebElement> priceElements = driver.findElements(By.className("inventory_item_price"));
         List<Double> actualPrices = new ArrayList<>();
 
-        for (WebElement priceElement : priceElements) {
-            String priceText = priceElement.getText().replace("$", "");
-            actualPrices.add(Double.parseDouble(priceText));
+        for (InventoryItem item : new InventoryPage(driver).snapshot()) {
+            actualPrices.add(item.price());
         }
 
         List<Double> sortedPrices = new ArrayList<>(actualPrices);
@@ -327,24 +335,17 @@ public class InventoryTest extends BaseTest {
     @Test
     public void testSortingByPriceHighToLow() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         WebElement sortDropdown = driver.findElement(By.className("product_sort_container"));
         Select select = new Select(sortDropdown);
         select.selectByVisibleText("Price (high to low)");
+        WaitEngine.until(driver, Conditions.sortApplied("hilo"));
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        List<WebElement> priceElements = driver.findElements(By.className("inventory_item_price"));
         List<Double> actualPrices = new ArrayList<>();
 
-        for (WebElement priceElement : priceElements) {
-            String priceText = priceElement.getText().replace("$", "");
-            actualPrices.add(Double.parseDouble(priceText));
+        for (InventoryItem item : new InventoryPage(driver).snapshot()) {
+            actualPrices.add(item.price());
         }
 
         List<Double> expectedPrices = new ArrayList<>(actualPrices);
@@ -356,24 +357,14 @@ public class InventoryTest extends BaseTest {
     @Test
     public void testSortingByNameAToZ() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         WebElement sortDropdown = driver.findElement(By.className("product_sort_container"));
         Select select = new Select(sortDropdown);
         select.selectByVisibleText("Name (A to Z)");
+        WaitEngine.until(driver, Conditions.sortApplied("az"));
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        List<WebElement> nameElements = driver.findElements(By.className("inventory_item_name"));
-        List<String> actualNames = new ArrayList<>();
-
-        for (WebElement nameElement : nameElements) {
-            actualNames.add(nameElement.getText());
-        }
+        List<String> actualNames = new InventoryPage(driver).getAllItemTitles();
 
         List<String> expectedNames = new ArrayList<>(actualNames);
         Collections.sort(expectedNames);
@@ -384,24 +375,14 @@ public class InventoryTest extends BaseTest {
     @Test
     public void testSortingByNameZToA() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         WebElement sortDropdown = driver.findElement(By.className("product_sort_container"));
         Select select = new Select(sortDropdown);
         select.selectByVisibleText("Name (Z to A)");
+        WaitEngine.until(driver, Conditions.sortApplied("za"));
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        List<WebElement> nameElements = driver.findElements(By.className("inventory_item_name"));
-        List<String> actualNames = new ArrayList<>();
-
-        for (WebElement nameElement : nameElements) {
-            actualNames.add(nameElement.getText());
-        }
+        List<String> actualNames = new InventoryPage(driver).getAllItemTitles();
 
         List<String> expectedNames = new ArrayList<>(actualNames);
         expectedNames.sort(Collections.reverseOrder());
@@ -411,10 +392,11 @@ public class InventoryTest extends BaseTest {
 
     //--------- Footer -------
 
+    @ReadOnly(persona = "standard_user")
     @Test
     public void testFooterSocialLinksWork() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         WebElement twitterLink = driver.findElement(By.cssSelector("a[href*='twitter.com']"));
         WebElement facebookLink = driver.findElement(By.cssSelector("a[href*='facebook.com']"));
@@ -1,71 +1,73 @@
 package Tests;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import Pages.InputMode;
 import Pages.LoginPage;
 import Base.BaseTest;
 
+// The login form is what these tests check, so it is always typed into and clicked like a user would
 public class LoginTest extends BaseTest {
 
     @Test
     public void testValidLogin() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.login("standard_user", "secret_sauce", InputMode.TYPED);
         Assert.assertTrue(driver.getCurrentUrl().contains("inventory"));
     }
 
     @Test
     public void testLockedOutUserLogin() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("locked_out_user", "secret_sauce");
+        loginPage.login("locked_out_user", "secret_sauce", InputMode.TYPED);
         Assert.assertTrue(loginPage.getErrorMessage().contains("Sorry, this user has been locked out."));
     }
 
     @Test
     public void testInvalidPassword() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "wrong_password");
+        loginPage.login("standard_user", "wrong_password", InputMode.TYPED);
         Assert.assertTrue(loginPage.getErrorMessage().contains("Username and password do not match"));
     }
 
     @Test
     public void testInvalidUsername() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("wrong_user", "secret_sauce");
+        loginPage.login("wrong_user", "secret_sauce", InputMode.TYPED);
         Assert.assertTrue(loginPage.getErrorMessage().contains("Username and password do not match"));
     }
 
     @Test
     public void testEmptyUsernameAndPassword() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("", "");
+        loginPage.login("", "", InputMode.TYPED);
         Assert.assertTrue(loginPage.getErrorMessage().contains("Username is required"));
     }
 
     @Test
     public void testEmptyUsername() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("", "secret_sauce");
+        loginPage.login("", "secret_sauce", InputMode.TYPED);
         Assert.assertTrue(loginPage.getErrorMessage().contains("Username is required"));
     }
 
     @Test
     public void testEmptyPassword() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "");
+        loginPage.login("standard_user", "", InputMode.TYPED);
         Assert.assertTrue(loginPage.getErrorMessage().contains("Password is required"));
     }
 
     @Test
     public void testProblemUserLogin() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("problem_user", "secret_sauce");
+        loginPage.login("problem_user", "secret_sauce", InputMode.TYPED);
         Assert.assertTrue(driver.getCurrentUrl().contains("inventory"));
     }
 
     @Test
     public void testPerformanceGlitchUserLogin() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("performance_glitch_user", "secret_sauce");
+        loginPage.login("performance_glitch_user", "secret_sauce", InputMode.TYPED);
         Assert.assertTrue(driver.getCurrentUrl().contains("inventory"));
     }
 }
\ No newline at end of file
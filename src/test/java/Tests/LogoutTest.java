@@ -5,20 +5,22 @@ import org.testng.annotations.Test;
 import Pages.LoginPage;
 import Pages.InventoryPage;
 import Pages.LogoutPage;
+import Probes.Probe;
 import Base.BaseTest;
+import Base.Config;
 
 public class LogoutTest extends BaseTest {
 
     @Test
     public void testLogoutFunctionality() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         InventoryPage inventoryPage = new InventoryPage(driver);
         LogoutPage logoutPage = new LogoutPage(driver);
         logoutPage.logout();
 
-        Assert.assertTrue(driver.getCurrentUrl().contains("saucedemo.com"));
-        Assert.assertTrue(driver.getPageSource().contains("Accepted usernames are:"));
+        Assert.assertTrue(driver.getCurrentUrl().startsWith(Config.baseUrl()));
+        Assert.assertTrue(Probe.on(driver).hasText("Accepted usernames are:"));
     }
 }
\ No newline at end of file
@@ -1,33 +1,29 @@
 package Tests;
 
 import Base.BaseTest;
-import Pages.CartPage;
 import Pages.InventoryPage;
 import Pages.LoginPage;
+import Pages.Product;
+import Probes.Probe;
+import Session.AppState;
+import Waits.Conditions;
+import Waits.WaitEngine;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
-
 public class MenuTest extends BaseTest {
 
     @Test
     public void testMenuCanBeOpenedFromInventoryPage() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         WebElement menuButton = driver.findElement(By.id("react-burger-menu-btn"));
         menuButton.click();
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        WaitEngine.until(driver, Conditions.menuOpen());
 
         WebElement logoutLink = driver.findElement(By.id("logout_sidebar_link"));
         Assert.assertTrue(logoutLink.isDisplayed(), "Menu did not open correctly");
@@ -36,14 +32,10 @@ public class MenuTest extends BaseTest {
     @Test
     public void testMenuItemsAreVisible() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         driver.findElement(By.id("react-burger-menu-btn")).click();
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        WaitEngine.until(driver, Conditions.menuOpen());
 
         Assert.assertTrue(driver.findElement(By.id("inventory_sidebar_link")).isDisplayed(), "All Items link missing");
         Assert.assertTrue(driver.findElement(By.id("about_sidebar_link")).isDisplayed(), "About link missing");
@@ -54,23 +46,15 @@ public class MenuTest extends BaseTest {
     @Test
     public void testMenuCanBeClosed() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         driver.findElement(By.id("react-burger-menu-btn")).click();
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        WaitEngine.until(driver, Conditions.menuOpen());
 
         WebElement closeButton = driver.findElement(By.id("react-burger-cross-btn"));
         closeButton.click();
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        WaitEngine.reached(driver, Conditions.menuClosed());
 
         boolean isMenuStillVisible = !driver.findElements(By.id("logout_sidebar_link")).isEmpty() &&
                 driver.findElement(By.id("logout_sidebar_link")).isDisplayed();
@@ -81,9 +65,9 @@ public class MenuTest extends BaseTest {
     @Test
     public void testMenuNotAccessibleBeforeLogin() {
         // We are still on login page here (from BaseTest setup)
-        boolean isMenuButtonPresent = !driver.findElements(By.id("react-burger-menu-btn")).isEmpty();
+        boolean menuButtonAbsent = Probe.on(driver).settlesWithout("#react-burger-menu-btn");
 
-        Assert.assertFalse(isMenuButtonPresent, "Menu button should not be visible before login");
+        Assert.assertTrue(menuButtonAbsent, "Menu button should not be visible before login");
     }
 
     //------- All Items ------------
@@ -91,21 +75,20 @@ public class MenuTest extends BaseTest {
     @Test
     public void testAllItemsMenuKeepsUserOnInventoryPage() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         // Ensure we are on inventory page
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        wait.until(ExpectedConditions.urlContains("inventory"));
+        WaitEngine.untilUrlContains(driver, "inventory");
 
         String urlBefore = driver.getCurrentUrl();
 
         // Open menu and click "All Items"
         driver.findElement(By.id("react-burger-menu-btn")).click();
-        WebElement allItems = wait.until(ExpectedConditions.elementToBeClickable(By.id("inventory_sidebar_link")));
-        allItems.click();
+        WaitEngine.until(driver, Conditions.menuOpen());
+        driver.findElement(By.id("inventory_sidebar_link")).click();
 
         // Wait and compare URL after click
-        wait.until(ExpectedConditions.urlContains("inventory"));
+        WaitEngine.untilUrlContains(driver, "inventory");
         String urlAfter = driver.getCurrentUrl();
 
         // Assertion: user should stay on same page
@@ -117,18 +100,17 @@ public class MenuTest extends BaseTest {
     @Test
     public void testAboutLinkRedirectsCorrectly() {
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         // Open menu
         driver.findElement(By.id("react-burger-menu-btn")).click();
 
-        // Wait for About link to be clickable
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        WebElement aboutLink = wait.until(ExpectedConditions.elementToBeClickable(By.id("about_sidebar_link")));
-        aboutLink.click();
+        // Wait for the menu to finish opening
+        WaitEngine.until(driver, Conditions.menuOpen());
+        driver.findElement(By.id("about_sidebar_link")).click();
 
         // Switch to new URL (same tab)
-        wait.until(ExpectedConditions.urlContains("saucelabs.com"));
+        WaitEngine.untilUrlContains(driver, "saucelabs.com");
 
         // Assert redirect destination contains "saucelabs"
         String currentUrl = driver.getCurrentUrl();
@@ -141,24 +123,16 @@ public class MenuTest extends BaseTest {
     public void testResetAppStateClearsCartFromCheckout() {
         // Login
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
-
-        InventoryPage inventoryPage = new InventoryPage(driver);
-        inventoryPage.addItemToCart(); // Adds backpack
-
-        // Navigate to Cart
-        inventoryPage.goToCart();
+        loginPage.loginFast("standard_user", "secret_sauce");
 
-        // Proceed to Checkout
-        CartPage cartPage = new CartPage(driver);
-        cartPage.clickCheckout();
+        // Start on checkout with the backpack in the cart
+        AppState.openCheckout(driver, Product.BACKPACK);
 
         // Open menu and reset app state
         driver.findElement(By.id("react-burger-menu-btn")).click();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        WebElement resetLink = wait.until(ExpectedConditions.elementToBeClickable(By.id("reset_sidebar_link")));
-        resetLink.click();
+        WaitEngine.until(driver, Conditions.menuOpen());
+        driver.findElement(By.id("reset_sidebar_link")).click();
 
         // Go back to cart
         driver.findElement(By.className("shopping_cart_link")).click();
@@ -172,7 +146,7 @@ public class MenuTest extends BaseTest {
     public void testResetAppStateResetsButtons() {  // BUG
         // Login
         LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage.loginFast("standard_user", "secret_sauce");
 
         InventoryPage inventoryPage = new InventoryPage(driver);
 
@@ -188,14 +162,12 @@ public class MenuTest extends BaseTest {
         driver.findElement(By.id("react-burger-menu-btn")).click();
 
         // Wait for Reset App State to be visible and click
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        WebElement resetLink = wait.until(ExpectedConditions.elementToBeClickable(By.id("reset_sidebar_link")));
-        resetLink.click();
+        WaitEngine.until(driver, Conditions.menuOpen());
+        driver.findElement(By.id("reset_sidebar_link")).click();
 
         // Confirm the button went back to "Add to cart"
-        WebElement resetAddButton = wait.until(
-                ExpectedConditions.visibilityOfElementLocated(By.id("add-to-cart-sauce-labs-backpack"))
-        );
+        WaitEngine.until(driver, Conditions.visible("#add-to-cart-sauce-labs-backpack"));
+        WebElement resetAddButton = driver.findElement(By.id("add-to-cart-sauce-labs-backpack"));
         Assert.assertTrue(resetAddButton.isDisplayed(), "Add to cart button not shown after reset");
     }
 
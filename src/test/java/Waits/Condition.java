@@ -0,0 +1,19 @@
+package Waits;
+
+// A predicate evaluated inside the page: `script` is a JavaScript function body that receives
+// `args` and returns true once the condition holds
+public record Condition(String name, String script, Object args) {
+
+    public static Condition of(String name, String script) {
+        return new Condition(name, script, null);
+    }
+
+    public static Condition of(String name, String script, Object args) {
+        return new Condition(name, script, args);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,66 @@
+package Waits;
+
+import java.util.Map;
+
+public final class Conditions {
+
+    private static final String MENU = "const wrap = document.querySelector('.bm-menu-wrap');";
+
+    private Conditions() {
+    }
+
+    // Open and fully slid in, i.e. the slide-in transition has finished
+    public static Condition menuOpen() {
+        return Condition.of("menu open", MENU
+                + "if (!wrap || wrap.hidden || wrap.getAttribute('aria-hidden') !== 'false') return false;"
+                + "const rect = wrap.getBoundingClientRect();"
+                + "return rect.width > 0 && rect.left >= 0;");
+    }
+
+    public static Condition menuClosed() {
+        return Condition.of("menu closed", MENU
+                + "if (!wrap || wrap.hidden) return true;"
+                + "return wrap.getAttribute('aria-hidden') === 'true' && wrap.getBoundingClientRect().right <= 0;");
+    }
+
+    // order is the sort dropdown value: az, za, lohi or hilo. The controlled dropdown shows the new value in the
+    // same React commit that re-renders the grid, so this waits for that value and a complete grid. Whether the
+    // grid is actually in that order is for the test to assert.
+    public static Condition sortApplied(String order) {
+        return Condition.of("sort applied: " + order, ""
+                + "const select = document.querySelector('.product_sort_container');"
+                + "if (!select || select.value !== args) return false;"
+                + "const items = Array.from(document.querySelectorAll('.inventory_item'));"
+                + "return items.length > 0 && items.every(i => i.querySelector('.inventory_item_name') !== null"
+                + "    && i.querySelector('.inventory_item_price') !== null);", order);
+    }
+
+    // Zero means the badge is gone
+    public static Condition badgeCount(int count) {
+        return Condition.of("cart badge = " + count, ""
+                + "const badge = document.querySelector('.shopping_cart_badge');"
+                + "return args === 0 ? badge === null : badge !== null && badge.textContent.trim() === String(args);",
+                count);
+    }
+
+    public static Condition visible(String cssSelector) {
+        return Condition.of("visible: " + cssSelector, ""
+                + "const el = document.querySelector(args);"
+                + "if (!el) return false;"
+                + "const rect = el.getBoundingClientRect();"
+                + "const style = window.getComputedStyle(el);"
+                + "return rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden' && style.display !== 'none';",
+                cssSelector);
+    }
+
+    public static Condition absent(String cssSelector) {
+        return Condition.of("absent: " + cssSelector, "return document.querySelector(args) === null;", cssSelector);
+    }
+
+    public static Condition textEquals(String cssSelector, String text) {
+        return Condition.of("text of " + cssSelector + " = " + text, ""
+                + "const el = document.querySelector(args.selector);"
+                + "return el !== null && el.textContent.trim() === args.text;",
+                Map.of("selector", cssSelector, "text", text));
+    }
+}
@@ -0,0 +1,137 @@
+package Waits;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+public final class WaitEngine {
+
+    private static final String PREDICATE = "/*predicate*/";
+
+    // Re-evaluates the predicate on every DOM mutation and every transition/animation end, so the
+    // call returns as soon as the page reaches the state instead of on the next polling tick
+    private static final String WATCH = ""
+            + "const done = arguments[arguments.length - 1];"
+            + "const args = arguments[0];"
+            + "const timeoutMs = arguments[1];"
+            + "const check = (args) => { " + PREDICATE + " };"
+            + "let finished = false;"
+            + "let observer = null;"
+            + "let timer = null;"
+            + "const finish = (result) => {"
+            + "  if (finished) return;"
+            + "  finished = true;"
+            + "  if (observer) observer.disconnect();"
+            + "  ['transitionend', 'transitioncancel', 'animationend'].forEach(e => document.removeEventListener(e, evaluate, true));"
+            + "  clearTimeout(timer);"
+            + "  done(result);"
+            + "};"
+            + "function evaluate() {"
+            + "  try { if (check(args)) finish(true); }"
+            + "  catch (e) { finish({error: e instanceof Error ? e.name + ': ' + e.message : String(e)}); }"
+            + "}"
+            + "observer = new MutationObserver(evaluate);"
+            + "observer.observe(document.documentElement, {subtree: true, childList: true, attributes: true, characterData: true});"
+            + "['transitionend', 'transitioncancel', 'animationend'].forEach(e => document.addEventListener(e, evaluate, true));"
+            + "timer = setTimeout(() => finish(false), timeoutMs);"
+            + "evaluate();";
+
+    private static final long URL_POLL_NANOS = Duration.ofMillis(25).toNanos();
+
+    // Slack between the in-page timer of an async script and the driver's script timeout, so the page
+    // always answers first
+    private static final Duration SCRIPT_TIMEOUT_HEADROOM = Duration.ofSeconds(5);
+
+    private WaitEngine() {
+    }
+
+    public static Duration defaultTimeout() {
+        return Duration.ofMillis(Long.getLong("wait.timeoutMs", 5000));
+    }
+
+    // Set on every browser by DriverFactory. No async script here runs longer than defaultTimeout(); longer
+    // waits are split into several scripts.
+    public static Duration scriptTimeout() {
+        return defaultTimeout().plus(SCRIPT_TIMEOUT_HEADROOM);
+    }
+
+    public static void until(WebDriver driver, Condition condition) {
+        until(driver, condition, defaultTimeout());
+    }
+
+    public static void until(WebDriver driver, Condition condition, Duration timeout) {
+        if (!reached(driver, condition, timeout)) {
+            throw new TimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for " + condition);
+        }
+    }
+
+    public static boolean reached(WebDriver driver, Condition condition) {
+        return reached(driver, condition, defaultTimeout());
+    }
+
+    public static boolean reached(WebDriver driver, Condition condition, Duration timeout) {
+        String script = WATCH.replace(PREDICATE, condition.script());
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            long remainingMs = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (remainingMs <= 0) {
+                return false;
+            }
+            long scriptMs = Math.min(remainingMs, defaultTimeout().toMillis());
+            Object result;
+            try {
+                result = ((JavascriptExecutor) driver).executeAsyncScript(script, condition.args(), scriptMs);
+            } catch (WebDriverException e) {
+                // A navigation tears down the watcher with the old document; keep watching the new one
+                if (!isDocumentUnload(e)) {
+                    throw e;
+                }
+                continue;
+            }
+            if (Boolean.TRUE.equals(result)) {
+                return true;
+            }
+            // A predicate that throws is broken, not unsatisfied; waiting out the timeout would hide why
+            if (result instanceof Map<?, ?> failure) {
+                throw new JavascriptException("Wait condition '" + condition + "' threw " + failure.get("error"));
+            }
+            // Only this script's share of a longer timeout ran out; the loop decides whether to go on
+        }
+    }
+
+    // Navigation cannot be observed from inside the page being unloaded, so URLs are checked from here
+    public static void untilUrlContains(WebDriver driver, String fragment) {
+        untilUrlContains(driver, fragment, defaultTimeout());
+    }
+
+    public static void untilUrlContains(WebDriver driver, String fragment, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!driver.getCurrentUrl().contains(fragment)) {
+            if (System.nanoTime() >= deadline) {
+                throw new TimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for URL containing "
+                        + fragment + ", current URL: " + driver.getCurrentUrl());
+            }
+            LockSupport.parkNanos(URL_POLL_NANOS);
+        }
+    }
+
+    // What chromedriver and CDP report when the document running a script goes away under it
+    private static final List<String> UNLOAD_MESSAGES = List.of(
+            "document unloaded while waiting for result",
+            "Execution context was destroyed",
+            "Inspected target navigated or closed",
+            "Cannot find context with specified id");
+
+    public static boolean isDocumentUnload(WebDriverException e) {
+        String message = String.valueOf(e.getMessage());
+        return UNLOAD_MESSAGES.stream().anyMatch(message::contains);
+    }
+}
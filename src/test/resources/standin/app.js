@@ -0,0 +1,589 @@
+// Local stand-in for https://www.saucedemo.com/ covering the behaviour the page objects rely on.
+// Session and cart live where the real app keeps them: the "session-username" cookie and the
+// "cart-contents" localStorage key (a JSON array of product ids).
+(function () {
+    'use strict';
+
+    var CONFIG = window.STANDIN_CONFIG || {glitchDelayMs: 0};
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user', 'performance_glitch_user', 'error_user', 'visual_user'];
+    var CART_KEY = 'cart-contents';
+    var SESSION_COOKIE = 'session-username';
+
+    var PRODUCTS = [
+        {id: 4, name: 'Sauce Labs Backpack', price: 29.99, image: 'sauce-backpack-1200x1500',
+            desc: 'carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection.'},
+        {id: 0, name: 'Sauce Labs Bike Light', price: 9.99, image: 'bike-light-1200x1500',
+            desc: 'A red light isn\'t the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included.'},
+        {id: 1, name: 'Sauce Labs Bolt T-Shirt', price: 15.99, image: 'bolt-shirt-1200x1500',
+            desc: 'Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt.'},
+        {id: 5, name: 'Sauce Labs Fleece Jacket', price: 49.99, image: 'sauce-pullover-1200x1500',
+            desc: 'It\'s not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office.'},
+        {id: 2, name: 'Sauce Labs Onesie', price: 7.99, image: 'red-onesie-1200x1500',
+            desc: 'Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won\'t unravel.'},
+        {id: 3, name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99, image: 'red-tatt-1200x1500',
+            desc: 'This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.'}
+    ];
+
+    var SORTS = {
+        az: function (a, b) { return a.name.localeCompare(b.name); },
+        za: function (a, b) { return b.name.localeCompare(a.name); },
+        lohi: function (a, b) { return a.price - b.price; },
+        hilo: function (a, b) { return b.price - a.price; }
+    };
+
+    var root = document.getElementById('root');
+
+    // ---------- session and cart ----------
+
+    function currentUser() {
+        var match = document.cookie.match(/(?:^|;\s*)session-username=([^;]*)/);
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function startSession(user) {
+        document.cookie = SESSION_COOKIE + '=' + encodeURIComponent(user) + '; path=/; max-age=600';
+    }
+
+    function endSession() {
+        document.cookie = SESSION_COOKIE + '=; path=/; max-age=0';
+    }
+
+    function cart() {
+        try {
+            var ids = JSON.parse(window.localStorage.getItem(CART_KEY) || '[]');
+            return Array.isArray(ids) ? ids : [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function saveCart(ids) {
+        if (ids.length === 0) {
+            window.localStorage.removeItem(CART_KEY);
+        } else {
+            window.localStorage.setItem(CART_KEY, JSON.stringify(ids));
+        }
+    }
+
+    function product(id) {
+        return PRODUCTS.filter(function (p) { return p.id === id; })[0];
+    }
+
+    function slug(p) {
+        return p.name.toLowerCase().replace(/\s+/g, '-');
+    }
+
+    function price(value) {
+        return '$' + value.toFixed(2);
+    }
+
+    function escapeHtml(text) {
+        return String(text).replace(/[&<>"']/g, function (c) {
+            return {'&': '&amp;', '<': '&lt;', '>': '&gt;', '"': '&quot;', "'": '&#39;'}[c];
+        });
+    }
+
+    // ---------- persona quirks ----------
+
+    function imageFor(user, p) {
+        if (user === 'problem_user' || (user === 'visual_user' && p.id === 4)) {
+            return '/static/media/sl-404.svg';
+        }
+        return '/static/media/' + p.image + '.svg';
+    }
+
+    function canAdd(user, p) {
+        return !(user === 'error_user' && (p.id === 1 || p.id === 5));
+    }
+
+    function canRemoveFromInventory(user) {
+        return user !== 'problem_user' && user !== 'error_user';
+    }
+
+    function lastNameIsBroken(user) {
+        return user === 'problem_user' || user === 'error_user';
+    }
+
+    function glitch(user) {
+        if (user === 'performance_glitch_user' && CONFIG.glitchDelayMs > 0) {
+            // Block the main thread like the real persona does, so paint and load timings reflect the delay
+            var end = Date.now() + CONFIG.glitchDelayMs;
+            while (Date.now() < end) {
+                // busy wait
+            }
+        }
+    }
+
+    // ---------- shared chrome ----------
+
+    function header(title) {
+        var count = cart().length;
+        return '' +
+            '<div class="bm-burger-button"><button id="react-burger-menu-btn" type="button">Open Menu</button></div>' +
+            '<div class="bm-menu-wrap" aria-hidden="true" hidden>' +
+            '  <nav class="bm-item-list">' +
+            '    <a id="inventory_sidebar_link" class="bm-item menu-item" href="/inventory.html" data-test="inventory-sidebar-link">All Items</a>' +
+            '    <a id="about_sidebar_link" class="bm-item menu-item" href="https://saucelabs.com/" data-test="about-sidebar-link">About</a>' +
+            '    <a id="logout_sidebar_link" class="bm-item menu-item" href="#" data-test="logout-sidebar-link">Logout</a>' +
+            '    <a id="reset_sidebar_link" class="bm-item menu-item" href="#" data-test="reset-sidebar-link">Reset App State</a>' +
+            '  </nav>' +
+            '  <div class="bm-cross-button"><button id="react-burger-cross-btn" type="button">Close Menu</button></div>' +
+            '</div>' +
+            '<div class="primary_header">' +
+            '  <div class="app_logo">Swag Labs</div>' +
+            '  <div id="shopping_cart_container" class="shopping_cart_container">' +
+            '    <a class="shopping_cart_link' + (currentUser() === 'visual_user' ? ' visual_failure' : '') + '" href="/cart.html" data-test="shopping-cart-link">Cart' +
+            (count > 0 ? '<span class="shopping_cart_badge" data-test="shopping-cart-badge">' + count + '</span>' : '') +
+            '    </a>' +
+            '  </div>' +
+            '</div>' +
+            '<div class="header_secondary_container"><span class="title" data-test="title">' + escapeHtml(title) + '</span>' +
+            '  <span id="secondary_slot"></span></div>';
+    }
+
+    function footer() {
+        return '' +
+            '<footer class="footer" data-test="footer">' +
+            '  <ul class="social">' +
+            '    <li class="social_twitter"><a href="https://twitter.com/saucelabs" target="_blank" rel="noreferrer">Twitter</a></li>' +
+            '    <li class="social_facebook"><a href="https://www.facebook.com/saucelabs" target="_blank" rel="noreferrer">Facebook</a></li>' +
+            '    <li class="social_linkedin"><a href="https://www.linkedin.com/company/sauce-labs/" target="_blank" rel="noreferrer">LinkedIn</a></li>' +
+            '  </ul>' +
+            '  <div class="footer_copy">&copy; 2025 Sauce Labs. All Rights Reserved. Terms of Service | Privacy Policy</div>' +
+            '</footer>';
+    }
+
+    function updateBadge() {
+        var link = document.querySelector('.shopping_cart_link');
+        if (!link) {
+            return;
+        }
+        var badge = link.querySelector('.shopping_cart_badge');
+        var count = cart().length;
+        if (count === 0 && badge) {
+            badge.parentNode.removeChild(badge);
+        } else if (count > 0) {
+            if (!badge) {
+                badge = document.createElement('span');
+                badge.className = 'shopping_cart_badge';
+                badge.setAttribute('data-test', 'shopping-cart-badge');
+                link.appendChild(badge);
+            }
+            badge.textContent = String(count);
+        }
+    }
+
+    function bindMenu() {
+        var wrap = document.querySelector('.bm-menu-wrap');
+
+        document.getElementById('react-burger-menu-btn').addEventListener('click', function () {
+            wrap.hidden = false;
+            // Force a style flush so the slide-in transition runs from the off-screen position
+            void wrap.offsetWidth;
+            wrap.setAttribute('aria-hidden', 'false');
+        });
+        document.getElementById('react-burger-cross-btn').addEventListener('click', function () {
+            wrap.setAttribute('aria-hidden', 'true');
+        });
+        wrap.addEventListener('transitionend', function () {
+            if (wrap.getAttribute('aria-hidden') === 'true') {
+                wrap.hidden = true;
+            }
+        });
+        document.getElementById('logout_sidebar_link').addEventListener('click', function (event) {
+            event.preventDefault();
+            endSession();
+            window.location.href = '/';
+        });
+        document.getElementById('reset_sidebar_link').addEventListener('click', function (event) {
+            event.preventDefault();
+            // Like the real app, the cart is emptied but already rendered buttons keep their state
+            saveCart([]);
+            updateBadge();
+        });
+    }
+
+    function requireSession(path) {
+        var user = currentUser();
+        if (!user || USERS.indexOf(user) < 0 || user === 'locked_out_user') {
+            window.sessionStorage.setItem('standin-login-error',
+                'Epic sadface: You can only access \'' + path + '\' when you are logged in.');
+            window.location.replace('/');
+            return null;
+        }
+        return user;
+    }
+
+    // Controlled inputs: like React, the app only sees values delivered through input/change events
+    function bindFields(ids, state, filter) {
+        ids.forEach(function (id) {
+            var input = document.getElementById(id);
+            state[id] = input.value;
+            var update = function () {
+                if (filter && !filter(id)) {
+                    input.value = state[id];
+                    return;
+                }
+                state[id] = input.value;
+            };
+            input.addEventListener('input', update);
+            input.addEventListener('change', update);
+        });
+    }
+
+    function showError(container, message) {
+        container.innerHTML = '<h3 data-test="error">' + escapeHtml(message) +
+            '<button class="error-button" type="button" data-test="error-button">x</button></h3>';
+        container.querySelector('.error-button').addEventListener('click', function () {
+            container.innerHTML = '';
+        });
+    }
+
+    // ---------- pages ----------
+
+    function loginPage() {
+        root.innerHTML = '' +
+            '<div class="login_wrapper">' +
+            '  <div class="login_logo">Swag Labs</div>' +
+            '  <form id="login_form">' +
+            '    <div class="form_group"><input class="input_error form_input" placeholder="Username" type="text" id="user-name" name="user-name" data-test="username" autocorrect="off" autocapitalize="none"></div>' +
+            '    <div class="form_group"><input class="input_error form_input" placeholder="Password" type="password" id="password" name="password" data-test="password" autocorrect="off" autocapitalize="none"></div>' +
+            '    <div class="error-message-container"></div>' +
+            '    <input type="submit" class="submit-button btn_action" data-test="login-button" id="login-button" name="login-button" value="Login">' +
+            '  </form>' +
+            '</div>' +
+            '<div class="login_credentials_wrap">' +
+            '  <div id="login_credentials" class="login_credentials" data-test="login-credentials"><h4>Accepted usernames are:</h4>' +
+            USERS.map(escapeHtml).join('<br>') + '</div>' +
+            '  <div class="login_password" data-test="login-password"><h4>Password for all users:</h4>' + PASSWORD + '</div>' +
+            '</div>';
+
+        var state = {};
+        bindFields(['user-name', 'password'], state);
+        var errors = root.querySelector('.error-message-container');
+
+        var pending = window.sessionStorage.getItem('standin-login-error');
+        if (pending) {
+            window.sessionStorage.removeItem('standin-login-error');
+            showError(errors, pending);
+        }
+
+        document.getElementById('login_form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            var user = state['user-name'];
+            var pass = state.password;
+            if (!user) {
+                showError(errors, 'Epic sadface: Username is required');
+            } else if (!pass) {
+                showError(errors, 'Epic sadface: Password is required');
+            } else if (USERS.indexOf(user) < 0 || pass !== PASSWORD) {
+                showError(errors, 'Epic sadface: Username and password do not match any user in this service');
+            } else if (user === 'locked_out_user') {
+                showError(errors, 'Epic sadface: Sorry, this user has been locked out.');
+            } else {
+                startSession(user);
+                window.location.href = '/inventory.html';
+            }
+        });
+    }
+
+    function cartButton(user, p, inCart) {
+        var id = (inCart ? 'remove-' : 'add-to-cart-') + slug(p);
+        return '<button class="btn btn_small btn_inventory' + (inCart ? ' btn_secondary' : ' btn_primary') + '" ' +
+            'data-test="' + id + '" id="' + id + '" name="' + id + '" data-product="' + p.id + '">' +
+            (inCart ? 'Remove' : 'Add to cart') + '</button>';
+    }
+
+    function bindCartButtons(user, container, allowRemove, onChange) {
+        container.addEventListener('click', function (event) {
+            var button = event.target.closest('button[data-product]');
+            if (!button) {
+                return;
+            }
+            var p = product(Number(button.getAttribute('data-product')));
+            var ids = cart();
+            var inCart = ids.indexOf(p.id) >= 0;
+            if (inCart) {
+                if (!allowRemove) {
+                    console.error('Failed to remove item from cart.');
+                    return;
+                }
+                ids.splice(ids.indexOf(p.id), 1);
+            } else {
+                if (!canAdd(user, p)) {
+                    console.error('Failed to add item to the cart.');
+                    return;
+                }
+                ids.push(p.id);
+            }
+            saveCart(ids);
+            button.outerHTML = cartButton(user, p, !inCart);
+            updateBadge();
+            if (onChange) {
+                onChange();
+            }
+        });
+    }
+
+    function inventoryPage() {
+        var user = requireSession('/inventory.html');
+        if (!user) {
+            return;
+        }
+        glitch(user);
+
+        root.innerHTML = header('Products') +
+            '<div id="inventory_container" class="inventory_container"><div class="inventory_list" data-test="inventory-list"></div></div>' +
+            footer();
+        document.getElementById('secondary_slot').innerHTML = '' +
+            '<select class="product_sort_container" data-test="product-sort-container">' +
+            '  <option value="az">Name (A to Z)</option>' +
+            '  <option value="za">Name (Z to A)</option>' +
+            '  <option value="lohi">Price (low to high)</option>' +
+            '  <option value="hilo">Price (high to low)</option>' +
+            '</select>';
+        bindMenu();
+
+        var list = root.querySelector('.inventory_list');
+
+        function render(order) {
+            var ids = cart();
+            list.innerHTML = PRODUCTS.slice().sort(SORTS[order]).map(function (p) {
+                return '' +
+                    '<div class="inventory_item" data-test="inventory-item">' +
+                    '  <div class="inventory_item_img"><a href="/inventory-item.html?id=' + p.id + '" id="item_' + p.id + '_img_link">' +
+                    '    <img alt="' + escapeHtml(p.name) + '" class="inventory_item_img" src="' + imageFor(user, p) + '"></a></div>' +
+                    '  <div class="inventory_item_description">' +
+                    '    <div class="inventory_item_label">' +
+                    '      <a href="/inventory-item.html?id=' + p.id + '" id="item_' + p.id + '_title_link">' +
+                    '        <div class="inventory_item_name" data-test="inventory-item-name">' + escapeHtml(p.name) + '</div></a>' +
+                    '      <div class="inventory_item_desc" data-test="inventory-item-desc">' + escapeHtml(p.desc) + '</div>' +
+                    '    </div>' +
+                    '    <div class="pricebar"><div class="inventory_item_price" data-test="inventory-item-price">' + price(p.price) + '</div>' +
+                    cartButton(user, p, ids.indexOf(p.id) >= 0) + '</div>' +
+                    '  </div>' +
+                    '</div>';
+            }).join('');
+        }
+
+        var select = root.querySelector('.product_sort_container');
+        select.addEventListener('change', function () {
+            if (user === 'problem_user' || user === 'error_user') {
+                console.error('Sorting is broken! This error has been reported to Backtrace.');
+                return;
+            }
+            render(select.value);
+        });
+
+        render('az');
+        bindCartButtons(user, list, canRemoveFromInventory(user));
+    }
+
+    function inventoryItemPage() {
+        var user = requireSession('/inventory-item.html');
+        if (!user) {
+            return;
+        }
+        var id = Number(new URLSearchParams(window.location.search).get('id'));
+        var p = product(id);
+
+        root.innerHTML = header('') +
+            '<div class="inventory_details">' +
+            '  <button id="back-to-products" class="btn" data-test="back-to-products">Back to products</button>' +
+            (p ? '' +
+                '  <div class="inventory_details_container" data-test="inventory-container">' +
+                '    <img class="inventory_details_img" alt="' + escapeHtml(p.name) + '" src="' + imageFor(user, p) + '">' +
+                '    <div class="inventory_details_name large_size" data-test="inventory-item-name">' + escapeHtml(p.name) + '</div>' +
+                '    <div class="inventory_details_desc large_size" data-test="inventory-item-desc">' + escapeHtml(p.desc) + '</div>' +
+                '    <div class="inventory_details_price" data-test="inventory-item-price">' + price(p.price) + '</div>' +
+                '    <div class="pricebar">' + cartButton(user, p, cart().indexOf(p.id) >= 0) + '</div>' +
+                '  </div>'
+                : '<div class="inventory_details_name large_size">ITEM NOT FOUND</div>') +
+            '</div>' + footer();
+        bindMenu();
+
+        document.getElementById('back-to-products').addEventListener('click', function () {
+            window.location.href = '/inventory.html';
+        });
+        if (p) {
+            bindCartButtons(user, root.querySelector('.inventory_details_container'), true);
+        }
+    }
+
+    function cartItems(ids, withButtons, user) {
+        return ids.map(product).filter(Boolean).map(function (p) {
+            return '' +
+                '<div class="cart_item" data-test="inventory-item">' +
+                '  <div class="cart_quantity" data-test="item-quantity">1</div>' +
+                '  <div class="cart_item_label">' +
+                '    <a href="/inventory-item.html?id=' + p.id + '" id="item_' + p.id + '_title_link">' +
+                '      <div class="inventory_item_name" data-test="inventory-item-name">' + escapeHtml(p.name) + '</div></a>' +
+                '    <div class="inventory_item_desc" data-test="inventory-item-desc">' + escapeHtml(p.desc) + '</div>' +
+                '    <div class="item_pricebar"><div class="inventory_item_price" data-test="inventory-item-price">' + price(p.price) + '</div>' +
+                (withButtons ? cartButton(user, p, true) : '') + '</div>' +
+                '  </div>' +
+                '</div>';
+        }).join('');
+    }
+
+    function cartPage() {
+        var user = requireSession('/cart.html');
+        if (!user) {
+            return;
+        }
+
+        root.innerHTML = header('Your Cart') +
+            '<div id="cart_contents_container" class="cart_contents_container">' +
+            '  <div class="cart_list" data-test="cart-list">' +
+            '    <div class="cart_quantity_label">QTY</div><div class="cart_desc_label">Description</div>' +
+            '    <div class="cart_items">' + cartItems(cart(), true, user) + '</div>' +
+            '  </div>' +
+            '  <div class="cart_footer">' +
+            '    <button class="btn btn_secondary back" id="continue-shopping" data-test="continue-shopping">Continue Shopping</button>' +
+            '    <button class="btn btn_action checkout_button" id="checkout" data-test="checkout">Checkout</button>' +
+            '  </div>' +
+            '</div>' + footer();
+        bindMenu();
+
+        var items = root.querySelector('.cart_items');
+        items.addEventListener('click', function (event) {
+            var button = event.target.closest('button[data-product]');
+            if (!button) {
+                return;
+            }
+            var id = Number(button.getAttribute('data-product'));
+            saveCart(cart().filter(function (other) { return other !== id; }));
+            button.closest('.cart_item').remove();
+            updateBadge();
+        });
+
+        document.getElementById('continue-shopping').addEventListener('click', function () {
+            window.location.href = '/inventory.html';
+        });
+        // Like the real app, an empty cart does not stop the user from checking out
+        document.getElementById('checkout').addEventListener('click', function () {
+            window.location.href = '/checkout-step-one.html';
+        });
+    }
+
+    function checkoutStepOnePage() {
+        var user = requireSession('/checkout-step-one.html');
+        if (!user) {
+            return;
+        }
+
+        root.innerHTML = header('Checkout: Your Information') +
+            '<div id="checkout_info_container" class="checkout_info_container">' +
+            '  <form id="checkout_info_form">' +
+            '    <div class="checkout_info">' +
+            '      <div class="form_group"><input class="input_error form_input" placeholder="First Name" type="text" id="first-name" name="firstName" data-test="firstName"></div>' +
+            '      <div class="form_group"><input class="input_error form_input" placeholder="Last Name" type="text" id="last-name" name="lastName" data-test="lastName"></div>' +
+            '      <div class="form_group"><input class="input_error form_input" placeholder="Zip/Postal Code" type="text" id="postal-code" name="postalCode" data-test="postalCode"></div>' +
+            '      <div class="error-message-container"></div>' +
+            '    </div>' +
+            '    <div class="checkout_buttons">' +
+            '      <button class="btn btn_secondary back cart_cancel_link" id="cancel" data-test="cancel" type="button">Cancel</button>' +
+            '      <input type="submit" class="submit-button btn btn_primary cart_button btn_action" data-test="continue" id="continue" name="continue" value="Continue">' +
+            '    </div>' +
+            '  </form>' +
+            '</div>' + footer();
+        bindMenu();
+
+        var state = {};
+        bindFields(['first-name', 'last-name', 'postal-code'], state, function (id) {
+            return !(id === 'last-name' && lastNameIsBroken(user));
+        });
+        var errors = root.querySelector('.error-message-container');
+
+        document.getElementById('cancel').addEventListener('click', function () {
+            window.location.href = '/cart.html';
+        });
+        document.getElementById('checkout_info_form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            if (!state['first-name']) {
+                showError(errors, 'Error: First Name is required');
+            } else if (!state['last-name']) {
+                showError(errors, 'Error: Last Name is required');
+            } else if (!state['postal-code']) {
+                showError(errors, 'Error: Postal Code is required');
+            } else {
+                window.location.href = '/checkout-step-two.html';
+            }
+        });
+    }
+
+    function checkoutStepTwoPage() {
+        var user = requireSession('/checkout-step-two.html');
+        if (!user) {
+            return;
+        }
+        var ids = cart();
+        var subtotal = ids.map(product).filter(Boolean).reduce(function (sum, p) { return sum + p.price; }, 0);
+        var tax = Math.round(subtotal * 8) / 100;
+
+        root.innerHTML = header('Checkout: Overview') +
+            '<div id="checkout_summary_container" class="checkout_summary_container">' +
+            '  <div class="cart_list" data-test="cart-list">' + cartItems(ids, false, user) + '</div>' +
+            '  <div class="summary_info">' +
+            '    <div class="summary_info_label" data-test="payment-info-label">Payment Information:</div>' +
+            '    <div class="summary_value_label" data-test="payment-info-value">SauceCard #31337</div>' +
+            '    <div class="summary_info_label" data-test="shipping-info-label">Shipping Information:</div>' +
+            '    <div class="summary_value_label" data-test="shipping-info-value">Free Pony Express Delivery!</div>' +
+            '    <div class="summary_info_label" data-test="total-info-label">Price Total</div>' +
+            '    <div class="summary_subtotal_label" data-test="subtotal-label">Item total: ' + price(subtotal) + '</div>' +
+            '    <div class="summary_tax_label" data-test="tax-label">Tax: ' + price(tax) + '</div>' +
+            '    <div class="summary_info_label summary_total_label" data-test="total-label">Total: ' + price(subtotal + tax) + '</div>' +
+            '    <div class="cart_footer">' +
+            '      <button class="btn btn_secondary cart_cancel_link" id="cancel" data-test="cancel">Cancel</button>' +
+            '      <button class="btn btn_action cart_button" id="finish" data-test="finish">Finish</button>' +
+            '    </div>' +
+            '  </div>' +
+            '</div>' + footer();
+        bindMenu();
+
+        document.getElementById('cancel').addEventListener('click', function () {
+            window.location.href = '/inventory.html';
+        });
+        document.getElementById('finish').addEventListener('click', function () {
+            if (user === 'error_user') {
+                console.error('Failed to finish the checkout.');
+                return;
+            }
+            saveCart([]);
+            window.location.href = '/checkout-complete.html';
+        });
+    }
+
+    function checkoutCompletePage() {
+        var user = requireSession('/checkout-complete.html');
+        if (!user) {
+            return;
+        }
+
+        root.innerHTML = header('Checkout: Complete!') +
+            '<div id="checkout_complete_container" class="checkout_complete_container">' +
+            '  <h2 class="complete-header" data-test="complete-header">Thank you for your order!</h2>' +
+            '  <div class="complete-text" data-test="complete-text">Your order has been dispatched, and will arrive just as fast as the pony can get there!</div>' +
+            '  <button class="btn btn_primary btn_small" id="back-to-products" data-test="back-to-products">Back Home</button>' +
+            '</div>' + footer();
+        bindMenu();
+
+        document.getElementById('back-to-products').addEventListener('click', function () {
+            window.location.href = '/inventory.html';
+        });
+    }
+
+    var ROUTES = {
+        '/': loginPage,
+        '/index.html': loginPage,
+        '/inventory.html': inventoryPage,
+        '/inventory-item.html': inventoryItemPage,
+        '/cart.html': cartPage,
+        '/checkout-step-one.html': checkoutStepOnePage,
+        '/checkout-step-two.html': checkoutStepTwoPage,
+        '/checkout-complete.html': checkoutCompletePage
+    };
+
+    (ROUTES[window.location.pathname] || loginPage)();
+})();